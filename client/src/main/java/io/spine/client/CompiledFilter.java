@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.client;
+
+import com.google.protobuf.Message;
+import io.spine.base.Field;
+import io.spine.protobuf.TypeConverter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * A {@link Filter} prepared for testing many messages.
+ *
+ * <p>The path of the filtered field is parsed once. The filter value is converted and
+ * the comparison is {@linkplain OperatorEvaluator#compile compiled} once for the type of
+ * the field values, and then is reused while the values are of the same type.
+ */
+final class CompiledFilter implements MessageFilter<Message> {
+
+    private final FilterOrBuilder filter;
+    private final Field field;
+    private volatile @Nullable Comparison comparison;
+
+    CompiledFilter(FilterOrBuilder filter) {
+        this.filter = checkNotNull(filter);
+        this.field = Field.withPath(filter.getFieldPath());
+    }
+
+    @Override
+    public boolean test(Message message) {
+        Object actual = field.valueIn(message);
+        Class<?> valueClass = actual.getClass();
+        Comparison current = comparison;
+        boolean reusable = current != null && current.valueClass == valueClass;
+        Object required = reusable
+                          ? current.required
+                          : TypeConverter.toObject(filter.getValue(), valueClass);
+        try {
+            if (!reusable) {
+                Predicate<@Nullable Object> predicate =
+                        OperatorEvaluator.compile(filter.getOperator(), required);
+                current = new Comparison(valueClass, required, predicate);
+                comparison = current;
+            }
+            return current.predicate.test(actual);
+        } catch (IllegalArgumentException e) {
+            throw newIllegalArgumentException(
+                    e,
+                    "Filter value `%s` cannot be properly compared to" +
+                            " the message field `%s` of the class `%s`.",
+                    required, field, actual.getClass().getName()
+            );
+        }
+    }
+
+    /**
+     * The filter value converted to the type of the field values along with the comparison
+     * of the field values to it.
+     */
+    private static final class Comparison {
+
+        private final Class<?> valueClass;
+        private final Object required;
+        private final Predicate<@Nullable Object> predicate;
+
+        private Comparison(Class<?> valueClass,
+                           Object required,
+                           Predicate<@Nullable Object> predicate) {
+            this.valueClass = valueClass;
+            this.required = required;
+            this.predicate = predicate;
+        }
+    }
+}
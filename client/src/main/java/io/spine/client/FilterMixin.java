@@ -20,15 +20,10 @@
 
 package io.spine.client;
 
-import com.google.protobuf.Any;
 import com.google.protobuf.Message;
 import io.spine.annotation.GeneratedMixin;
-import io.spine.base.Field;
-import io.spine.protobuf.TypeConverter;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static io.spine.client.OperatorEvaluator.eval;
-import static io.spine.util.Exceptions.newIllegalArgumentException;
 
 /**
  * Augments {@link Filter} with useful methods.
@@ -56,19 +51,6 @@ interface FilterMixin extends FilterOrBuilder, MessageFilter<Message> {
      */
     @Override
     default boolean test(Message message) {
-        Field field = Field.withPath(getFieldPath());
-        Object actual = field.valueIn(message);
-        Any requiredAsAny = getValue();
-        Object required = TypeConverter.toObject(requiredAsAny, actual.getClass());
-        try {
-            return eval(actual, getOperator(), required);
-        } catch (IllegalArgumentException e) {
-            throw newIllegalArgumentException(
-                    e,
-                    "Filter value `%s` cannot be properly compared to" +
-                            " the message field `%s` of the class `%s`.",
-                    required, field, actual.getClass().getName()
-            );
-        }
+        return new CompiledFilter(this).test(message);
     }
 }
@@ -27,6 +27,7 @@ import io.spine.time.TimestampTemporal;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Objects;
+import java.util.function.Predicate;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -151,6 +152,33 @@ public enum OperatorEvaluator {
         return result;
     }
 
+    /**
+     * Creates a predicate evaluating the given operator on the tested value as the left operand
+     * and the passed value as the right operand.
+     *
+     * <p>For any {@code left} value, {@code compile(operator, right).test(left)} returns the same
+     * result as {@code eval(left, operator, right)} and throws the same exceptions. The predicate
+     * is specialized for the type of the right operand once, so it is cheaper to create it once
+     * and test many values with it than to call {@link #eval} for each value.
+     *
+     * @param operator
+     *         the comparison operator
+     * @param right
+     *         the right operand
+     * @return the predicate on the left operand
+     * @throws IllegalArgumentException
+     *         if the operator is not supported
+     */
+    public static Predicate<@Nullable Object> compile(Operator operator, @Nullable Object right) {
+        checkNotNull(operator);
+        OperatorEvaluator evaluator = EVALUATORS.get(operator);
+        checkArgument(evaluator != null, operator);
+        if (evaluator == EQUAL) {
+            return left -> Objects.equals(left, right);
+        }
+        return OrderPredicate.of(operator, right);
+    }
+
     /**
      * Evaluates the expression of joining the given operands with a certain operator.
      *
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.client;
+
+import com.google.protobuf.Timestamp;
+import io.spine.client.Filter.Operator;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import static io.spine.client.Filter.Operator.GREATER_OR_EQUAL;
+import static io.spine.client.Filter.Operator.LESS_OR_EQUAL;
+import static java.lang.String.format;
+
+/**
+ * A predicate comparing the tested values to a fixed value by their order.
+ *
+ * <p>The comparison is specialized for the type of the fixed value once, when the predicate is
+ * created. The {@code long}, {@code int}, {@code double}, {@code String} and {@link Timestamp}
+ * values are compared directly, without the generic {@link Comparable} dispatch.
+ *
+ * <p>Tests the values in the same way as the {@link OperatorEvaluator} with the corresponding
+ * operator, where the tested value is the left operand and the fixed value is the right one.
+ */
+final class OrderPredicate implements Predicate<@Nullable Object> {
+
+    private final Operator operator;
+    private final Object right;
+
+    /**
+     * Compares a value of the same class as {@link #right} to it.
+     *
+     * <p>The result is negative if the value is less than {@link #right}, zero if they are equal
+     * and positive if the value is greater than {@link #right}.
+     */
+    private final ToIntFunction<Object> comparison;
+
+    /**
+     * Tells if the zero {@link #comparison} result means that the values are equal
+     * in terms of {@link Object#equals}.
+     */
+    private final boolean consistentWithEquals;
+
+    private OrderPredicate(Operator operator,
+                           Object right,
+                           ToIntFunction<Object> comparison,
+                           boolean consistentWithEquals) {
+        this.operator = operator;
+        this.right = right;
+        this.comparison = comparison;
+        this.consistentWithEquals = consistentWithEquals;
+    }
+
+    /**
+     * Creates a predicate comparing the tested values to the passed value.
+     *
+     * @param operator
+     *         one of the order-based comparison operators
+     * @param right
+     *         the value to compare to
+     */
+    static Predicate<@Nullable Object> of(Operator operator, @Nullable Object right) {
+        if (right == null) {
+            boolean includesEqual = operator == GREATER_OR_EQUAL || operator == LESS_OR_EQUAL;
+            return includesEqual
+                   ? Objects::isNull
+                   : left -> false;
+        }
+        if (right instanceof Timestamp) {
+            Timestamp time = (Timestamp) right;
+            long seconds = time.getSeconds();
+            int nanos = time.getNanos();
+            return new OrderPredicate(operator, right, left -> {
+                Timestamp leftTime = (Timestamp) left;
+                int result = Long.compare(leftTime.getSeconds(), seconds);
+                return result != 0
+                       ? result
+                       : Integer.compare(leftTime.getNanos(), nanos);
+            }, true);
+        }
+        if (right instanceof Long) {
+            long value = (Long) right;
+            return new OrderPredicate(operator, right,
+                                      left -> Long.compare((Long) left, value), true);
+        }
+        if (right instanceof Integer) {
+            int value = (Integer) right;
+            return new OrderPredicate(operator, right,
+                                      left -> Integer.compare((Integer) left, value), true);
+        }
+        if (right instanceof Double) {
+            double value = (Double) right;
+            return new OrderPredicate(operator, right,
+                                      left -> Double.compare((Double) left, value), true);
+        }
+        if (right instanceof String) {
+            String value = (String) right;
+            return new OrderPredicate(operator, right,
+                                      left -> ((String) left).compareTo(value), true);
+        }
+        if (right instanceof Comparable) {
+            return new OrderPredicate(operator, right, comparableWith(operator, right), false);
+        }
+        return new OrderPredicate(operator, right, left -> {
+            throw new UnsupportedOperationException(format(
+                    "Comparison operations are not supported for type %s.",
+                    left.getClass().getCanonicalName())
+            );
+        }, false);
+    }
+
+    /**
+     * Compares {@code Comparable} values in the same order of the operands
+     * as {@link OperatorEvaluator} does.
+     */
+    @SuppressWarnings("unchecked") // The types are checked at runtime.
+    private static ToIntFunction<Object> comparableWith(Operator operator, Object right) {
+        boolean leftFirst = operator == Operator.GREATER_THAN || operator == GREATER_OR_EQUAL;
+        if (leftFirst) {
+            return left -> ((Comparable<Object>) left).compareTo(right);
+        }
+        Comparable<Object> value = (Comparable<Object>) right;
+        return left -> -Integer.signum(value.compareTo(left));
+    }
+
+    @Override
+    public boolean test(@Nullable Object left) {
+        if (left == null) {
+            return false;
+        }
+        if (left.getClass() != right.getClass()) {
+            throw classMismatch(left);
+        }
+        int result = comparison.applyAsInt(left);
+        switch (operator) {
+            case GREATER_THAN:
+                return result > 0;
+            case LESS_THAN:
+                return result < 0;
+            case GREATER_OR_EQUAL:
+                return result > 0 || isEqual(result, left);
+            case LESS_OR_EQUAL:
+                return result < 0 || isEqual(result, left);
+            default:
+                throw new IllegalStateException(
+                        format("Operator %s is not an order-based comparison.", operator)
+                );
+        }
+    }
+
+    private boolean isEqual(int comparisonResult, Object left) {
+        return consistentWithEquals
+               ? comparisonResult == 0
+               : left.equals(right);
+    }
+
+    private IllegalArgumentException classMismatch(Object left) {
+        boolean leftFirst = operator == Operator.GREATER_THAN || operator == GREATER_OR_EQUAL;
+        Object first = leftFirst ? left : right;
+        Object second = leftFirst ? right : left;
+        return new IllegalArgumentException(
+                format("Cannot compare an instance of %s to an instance of %s.",
+                       first.getClass(),
+                       second.getClass())
+        );
+    }
+}
@@ -20,9 +20,12 @@
 
 package io.spine.client;
 
+import com.google.protobuf.Duration;
 import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -52,12 +55,34 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public final class TopicBuilder extends TargetBuilder<Topic, TopicBuilder> {
 
     private final TopicFactory topicFactory;
+    private @Nullable Duration updateInterval;
 
     TopicBuilder(Class<? extends Message> targetType, TopicFactory topicFactory) {
         super(targetType);
         this.topicFactory = checkNotNull(topicFactory);
     }
 
+    /**
+     * Sets the minimal interval between the updates of a single entity.
+     *
+     * <p>Of all the changes of an entity which happen within the interval, the subscriber
+     * receives only the latest one.
+     *
+     * <p>Applies only to the topics on entity states.
+     *
+     * @param interval
+     *         a positive interval between the updates
+     * @return self for method chaining
+     */
+    public TopicBuilder withUpdateInterval(Duration interval) {
+        checkNotNull(interval);
+        checkArgument(interval.getSeconds() > 0
+                              || (interval.getSeconds() == 0 && interval.getNanos() > 0),
+                      "The update interval must be positive.");
+        this.updateInterval = interval;
+        return self();
+    }
+
     /**
      * Generates a new {@link io.spine.client.Topic Topic} instance with current builder 
      * configuration.
@@ -72,7 +97,7 @@ public final class TopicBuilder extends TargetBuilder<Topic, TopicBuilder> {
         Target target = buildTarget();
         target.checkValid();
         FieldMask mask = composeMask();
-        Topic topic = topicFactory.composeTopic(target, mask);
+        Topic topic = topicFactory.composeTopic(target, mask, updateInterval);
         return topic;
     }
 
@@ -20,6 +20,7 @@
 
 package io.spine.client;
 
+import com.google.protobuf.Duration;
 import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
@@ -89,15 +90,22 @@ public final class TopicFactory {
      *         a {@code Target} to create a topic for
      * @param fieldMask
      *         a {@code FieldMask} defining fields to be included in updates
+     * @param updateInterval
+     *         the minimal interval between the updates of a single entity
      * @return an instance of {@code Topic}
      */
     @SuppressWarnings("CheckReturnValue")
-    Topic composeTopic(Target target, @Nullable FieldMask fieldMask) {
+    Topic composeTopic(Target target,
+                       @Nullable FieldMask fieldMask,
+                       @Nullable Duration updateInterval) {
         checkNotNull(target, "Target must be specified to compose a Topic.");
         Topic.Builder builder = builderForTarget(target);
         if (fieldMask != null) {
             builder.setFieldMask(fieldMask);
         }
+        if (updateInterval != null) {
+            builder.setUpdateInterval(updateInterval);
+        }
         Topic query = builder.vBuild();
         return query;
     }
@@ -22,6 +22,7 @@ package io.spine.client;
 
 import com.google.protobuf.Message;
 import io.spine.value.ValueHolder;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 
 /**
  * A typed wrapper around the {@link Filter} instance.
@@ -37,6 +38,13 @@ abstract class TypedFilter<M extends Message>
 
     private static final long serialVersionUID = 0L;
 
+    /**
+     * The filter prepared for testing the messages.
+     *
+     * <p>Is created on the first test.
+     */
+    private transient volatile @MonotonicNonNull CompiledFilter compiled;
+
     TypedFilter(Filter value) {
         super(value);
     }
@@ -47,6 +55,11 @@ abstract class TypedFilter<M extends Message>
 
     @Override
     public boolean test(M m) {
-        return filter().test(m);
+        CompiledFilter result = compiled;
+        if (result == null) {
+            result = new CompiledFilter(filter());
+            compiled = result;
+        }
+        return result.test(m);
     }
 }
@@ -108,4 +108,21 @@ class EntityStateFilterTest {
             assertThat(unpacked.getValue()).isEqualTo(value);
         }
     }
+
+    @Test
+    @DisplayName("test several entity states")
+    void testSeveral() {
+        EntityStateFilter filter = EntityStateFilter.ge(TestEntity.Field.thirdField(), 42);
+
+        assertThat(filter.test(entityWith(43))).isTrue();
+        assertThat(filter.test(entityWith(42))).isTrue();
+        assertThat(filter.test(entityWith(41))).isFalse();
+    }
+
+    private static TestEntity entityWith(int thirdField) {
+        return TestEntity
+                .newBuilder()
+                .setThirdField(thirdField)
+                .build();
+    }
 }
@@ -20,13 +20,18 @@
 
 package io.spine.client;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.testing.NullPointerTester;
 import com.google.protobuf.Duration;
 import com.google.protobuf.Timestamp;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.util.function.Predicate;
+
 import static com.google.common.testing.NullPointerTester.Visibility.PACKAGE;
 import static com.google.protobuf.util.Timestamps.add;
 import static io.spine.base.Time.currentTime;
@@ -41,6 +46,8 @@ import static io.spine.client.OperatorEvaluator.eval;
 import static io.spine.protobuf.Durations2.seconds;
 import static io.spine.testing.DisplayNames.NOT_ACCEPT_NULLS;
 import static io.spine.testing.Tests.nullRef;
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -294,6 +301,75 @@ class OperatorEvaluatorTest {
         assertThrows(IllegalArgumentException.class, () -> eval("a", CFO_UNDEFINED, "b"));
     }
 
+    @Nested
+    @DisplayName("compile predicates which")
+    class Compile {
+
+        private final ImmutableList<Operator> operators = ImmutableList.of(
+                EQUAL, GREATER_THAN, GREATER_OR_EQUAL, LESS_THAN, LESS_OR_EQUAL
+        );
+
+        @Test
+        @DisplayName("evaluate values in the same way as `eval`")
+        void evaluateAsEval() {
+            Timestamp now = currentTime();
+            ImmutableList<ImmutableList<Object>> groups = ImmutableList.of(
+                    ImmutableList.<Object>of(-1, 0, 42, Integer.MAX_VALUE),
+                    ImmutableList.<Object>of(Long.MIN_VALUE, 0L, 42L),
+                    ImmutableList.<Object>of(-0.0, 0.0, 42.1, Double.NaN),
+                    ImmutableList.<Object>of("", "a", "b", "Z"),
+                    ImmutableList.<Object>of(now, add(now, seconds(5)), add(now, seconds(-5))),
+                    ImmutableList.<Object>of(new BigDecimal("1.0"),
+                                             new BigDecimal("1.00"),
+                                             BigDecimal.TEN)
+            );
+            for (ImmutableList<Object> group : groups) {
+                for (Object right : group) {
+                    for (Object left : group) {
+                        assertSameAsEval(left, right);
+                    }
+                    assertSameAsEval(null, right);
+                    assertSameAsEval(right, null);
+                }
+            }
+            assertSameAsEval(null, null);
+        }
+
+        private void assertSameAsEval(@Nullable Object left, @Nullable Object right) {
+            for (Operator operator : operators) {
+                boolean expected = eval(left, operator, right);
+                boolean actual = OperatorEvaluator.compile(operator, right)
+                                                  .test(left);
+                assertEquals(expected, actual,
+                             format("`%s %s %s`", left, operator, right));
+            }
+        }
+
+        @Test
+        @DisplayName("fail to compare unsupported types")
+        void notCompareUnsupported() {
+            Predicate<@Nullable Object> predicate =
+                    OperatorEvaluator.compile(GREATER_OR_EQUAL, FaultyComparisonType.INSTANCE);
+            assertThrows(UnsupportedOperationException.class,
+                         () -> predicate.test(FaultyComparisonType.INSTANCE));
+        }
+
+        @Test
+        @DisplayName("fail to compare different types")
+        void notCompareDifferentTypes() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> OperatorEvaluator.compile(LESS_THAN, 6)
+                                                .test("7"));
+        }
+
+        @Test
+        @DisplayName("fail to be created for an invalid operator")
+        void notCompileInvalidOperator() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> OperatorEvaluator.compile(CFO_UNDEFINED, "b"));
+        }
+    }
+
     private static void assertGreater(Object left, Object right) {
         assertStrict(left, right, GREATER_THAN);
     }
@@ -24,6 +24,7 @@ import com.google.common.testing.NullPointerTester;
 import com.google.common.truth.IterableSubject;
 import com.google.common.truth.StringSubject;
 import com.google.protobuf.Any;
+import com.google.protobuf.Duration;
 import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
 import com.google.protobuf.StringValue;
@@ -40,6 +41,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.protobuf.util.Durations.fromMillis;
 import static io.spine.base.Identifier.newUuid;
 import static io.spine.client.CompositeFilter.CompositeOperator.ALL;
 import static io.spine.client.CompositeFilter.CompositeOperator.EITHER;
@@ -160,6 +162,18 @@ class TopicBuilderTest {
             assertFieldNames.containsExactly(fieldName);
         }
 
+        @Test
+        @DisplayName("with an update interval")
+        void withUpdateInterval() {
+            Duration interval = fromMillis(250);
+            Topic topic = factory.select(TEST_ENTITY_TYPE)
+                                 .withUpdateInterval(interval)
+                                 .build();
+            assertNotNull(topic);
+            assertTrue(topic.hasUpdateInterval());
+            assertEquals(interval, topic.getUpdateInterval());
+        }
+
         @Test
         @DisplayName("matching a predicate")
         void byFilter() {
@@ -354,6 +368,25 @@ class TopicBuilderTest {
         }
     }
 
+    @Test
+    @DisplayName("not set the update interval by default")
+    void noUpdateInterval() {
+        Topic topic = factory.select(TEST_ENTITY_TYPE)
+                             .build();
+        assertFalse(topic.hasUpdateInterval());
+    }
+
+    @SuppressWarnings("CheckReturnValue")
+    @Test
+    @DisplayName("reject a non-positive update interval")
+    void rejectNonPositiveInterval() {
+        TopicBuilder builder = factory.select(TEST_ENTITY_TYPE);
+        assertThrows(IllegalArgumentException.class,
+                     () -> builder.withUpdateInterval(Duration.getDefaultInstance()));
+        assertThrows(IllegalArgumentException.class,
+                     () -> builder.withUpdateInterval(fromMillis(-1)));
+    }
+
     @SuppressWarnings("CheckReturnValue")
     @Test
     @DisplayName("fail when creating a topic with an invalid filter")
@@ -55,6 +55,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -327,6 +328,18 @@ public final class BoundedContextBuilder implements Logging {
         return this;
     }
 
+    /**
+     * Makes the {@code EventBus} of the context being built call the dispatchers of an event
+     * concurrently, using the passed executor.
+     *
+     * @see EventBus.Builder#setDispatchExecutor(Executor)
+     */
+    public BoundedContextBuilder dispatchEventsConcurrently(Executor executor) {
+        checkNotNull(executor);
+        eventBus.setDispatchExecutor(executor);
+        return this;
+    }
+
     /**
      * Adds a listener of the events posted to the {@code EventBus} of the context being built.
      */
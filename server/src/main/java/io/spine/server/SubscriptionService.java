@@ -24,6 +24,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import io.spine.client.Subscription;
 import io.spine.client.SubscriptionUpdate;
@@ -35,7 +36,9 @@ import io.spine.core.Response;
 import io.spine.logging.Logging;
 import io.spine.server.stand.Stand;
 import io.spine.server.stand.SubscriptionCallback;
+import io.spine.server.stand.UpdateDelivery;
 import io.spine.type.TypeUrl;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Optional;
 import java.util.Set;
@@ -44,6 +47,7 @@ import java.util.function.Consumer;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.flogger.LazyArgs.lazy;
 import static io.spine.grpc.StreamObservers.forwardErrorsOnly;
+import static io.spine.grpc.StreamObservers.noOpObserver;
 import static io.spine.server.stand.SubscriptionCallback.forwardingTo;
 
 /**
@@ -60,9 +64,17 @@ public final class SubscriptionService
 
     private final ImmutableMap<TypeUrl, BoundedContext> typeToContextMap;
 
-    private SubscriptionService(ImmutableMap<TypeUrl, BoundedContext> map) {
+    /**
+     * The configuration of the asynchronous delivery of the updates, or {@code null} if
+     * the updates are delivered synchronously.
+     */
+    private final @Nullable UpdateDelivery updateDelivery;
+
+    private SubscriptionService(ImmutableMap<TypeUrl, BoundedContext> map,
+                                @Nullable UpdateDelivery updateDelivery) {
         super();
         this.typeToContextMap = checkNotNull(map);
+        this.updateDelivery = updateDelivery;
     }
 
     public static Builder newBuilder() {
@@ -107,7 +119,7 @@ public final class SubscriptionService
     public void activate(Subscription subscription, StreamObserver<SubscriptionUpdate> observer) {
         _debug().log("Activating the subscription: `%s`.", subscription);
         try {
-            SubscriptionCallback callback = forwardingTo(observer);
+            SubscriptionCallback callback = callbackFor(subscription, observer);
             StreamObserver<Response> responseObserver = forwardErrorsOnly(observer);
             Optional<BoundedContext> foundContext = findContextOf(subscription);
             if (foundContext.isPresent()) {
@@ -126,6 +138,29 @@ public final class SubscriptionService
         }
     }
 
+    /**
+     * Creates the callback which passes the updates of the subscription to the passed observer.
+     *
+     * <p>If the {@linkplain Builder#setUpdateDelivery(UpdateDelivery) update delivery} is
+     * configured, the updates are queued and passed to the observer asynchronously.
+     * If the subscription is cancelled due to the queue overflow, the observer receives
+     * the {@link Status#RESOURCE_EXHAUSTED RESOURCE_EXHAUSTED} error.
+     */
+    private SubscriptionCallback callbackFor(Subscription subscription,
+                                             StreamObserver<SubscriptionUpdate> observer) {
+        SubscriptionCallback callback = forwardingTo(observer);
+        if (updateDelivery == null) {
+            return callback;
+        }
+        Runnable onCancel = () -> {
+            cancel(subscription, noOpObserver());
+            observer.onError(Status.RESOURCE_EXHAUSTED
+                                     .withDescription("The subscription update queue is full.")
+                                     .asRuntimeException());
+        };
+        return updateDelivery.queue(subscription, callback, onCancel);
+    }
+
     @Override
     public void cancel(Subscription subscription, StreamObserver<Response> responseObserver) {
         _debug().log("Incoming cancel request for the subscription topic: `%s`.", subscription);
@@ -167,6 +202,7 @@ public final class SubscriptionService
      */
     public static class Builder {
         private final Set<BoundedContext> contexts = Sets.newHashSet();
+        private @Nullable UpdateDelivery updateDelivery;
 
         /** Adds the context to be handled by the subscription service. */
         public Builder add(BoundedContext context) {
@@ -181,6 +217,17 @@ public final class SubscriptionService
             return this;
         }
 
+        /**
+         * Makes the service deliver the subscription updates asynchronously.
+         *
+         * <p>By default, the updates are passed to the subscribers on the thread which posted
+         * the event causing the update.
+         */
+        public Builder setUpdateDelivery(UpdateDelivery delivery) {
+            this.updateDelivery = checkNotNull(delivery);
+            return this;
+        }
+
         /** Obtains the context added to the subscription service by the time of the call. */
         public ImmutableList<BoundedContext> contexts() {
             return ImmutableList.copyOf(contexts);
@@ -197,7 +244,7 @@ public final class SubscriptionService
                         "Subscription service must have at least one Bounded Context.");
             }
             ImmutableMap<TypeUrl, BoundedContext> map = createMap();
-            SubscriptionService result = new SubscriptionService(map);
+            SubscriptionService result = new SubscriptionService(map, updateDelivery);
             return result;
         }
 
@@ -23,10 +23,14 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Any;
 import com.google.protobuf.Empty;
+import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
 import io.spine.base.EntityState;
 import io.spine.base.Error;
+import io.spine.core.CommandId;
 import io.spine.core.Event;
+import io.spine.core.EventId;
+import io.spine.core.MessageId;
 import io.spine.core.Version;
 import io.spine.protobuf.AnyPacker;
 import io.spine.protobuf.ValidatingBuilder;
@@ -43,9 +47,11 @@ import io.spine.server.event.model.EventReactorMethod;
 import io.spine.server.type.CommandEnvelope;
 import io.spine.server.type.EventEnvelope;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -142,6 +148,14 @@ public abstract class Aggregate<I,
     /** A guard for ensuring idempotency of messages dispatched by this aggregate. */
     private IdempotencyGuard idempotencyGuard;
 
+    /**
+     * The identifiers of the commands and events which caused the events
+     * in the {@linkplain #recentHistory() recent history}.
+     *
+     * <p>The set is bounded by the size of the recent history, and is cleared along with it.
+     */
+    private final Set<Message> recentOrigins = new HashSet<>();
+
     /**
      * Creates a new instance.
      *
@@ -361,6 +375,29 @@ public abstract class Aggregate<I,
         setInitialState(stateToRestore, versionFromSnapshot);
     }
 
+    /**
+     * Makes the passed newly created aggregate a copy of this one.
+     *
+     * <p>Copies the state, the version, the lifecycle flags, the recent history and
+     * the number of events since the last snapshot. The copy shares no mutable data
+     * with this aggregate.
+     *
+     * @param copy
+     *         the newly created aggregate of the same class and with the same ID
+     */
+    final void copyTo(Aggregate<I, ?, ?> copy) {
+        checkArgument(copy.getClass() == getClass());
+        @SuppressWarnings("unchecked") // Checked above.
+        Aggregate<I, S, B> target = (Aggregate<I, S, B>) copy;
+        AggregateTransaction<I, ?, ?> tx = AggregateTransaction.start(target);
+        target.setInitialState(state(), version());
+        target.setArchived(isArchived());
+        target.setDeleted(isDeleted());
+        tx.commitIfActive();
+        target.remember(ImmutableList.copyOf(recentHistory().iterator()));
+        target.eventCountAfterLastSnapshot = eventCountAfterLastSnapshot;
+    }
+
     /**
      * Returns all uncommitted events.
      *
@@ -395,11 +432,23 @@ public abstract class Aggregate<I,
      * @return new snapshot
      */
     final Snapshot toSnapshot() {
-        Any state = AnyPacker.pack(state());
+        return snapshotOf(state(), version());
+    }
+
+    /**
+     * Creates a new {@link Snapshot} of the passed aggregate state and version.
+     *
+     * <p>Allows to capture the state of the aggregate and create the snapshot later,
+     * e.g. in a background thread.
+     *
+     * @return new snapshot
+     */
+    static Snapshot snapshotOf(EntityState aggregateState, Version version) {
+        Any state = AnyPacker.pack(aggregateState);
         Snapshot.Builder builder = Snapshot
                 .newBuilder()
                 .setState(state)
-                .setVersion(version())
+                .setVersion(version)
                 .setTimestamp(currentTime());
         return builder.build();
     }
@@ -412,6 +461,42 @@ public abstract class Aggregate<I,
     @Override
     protected final void clearRecentHistory() {
         super.clearRecentHistory();
+        recentOrigins.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Also remembers the identifiers of the signals which caused the events.
+     */
+    @Override
+    protected final void remember(Iterable<Event> events) {
+        super.remember(events);
+        for (Event event : events) {
+            MessageId origin = event.context()
+                                    .getPastMessage()
+                                    .messageId();
+            if (origin.isCommand()) {
+                recentOrigins.add(origin.asCommandId());
+            } else if (origin.isEvent()) {
+                recentOrigins.add(origin.asEventId());
+            }
+        }
+    }
+
+    /**
+     * Verifies if an event in the recent history was caused by the command
+     * with the passed ID.
+     */
+    final boolean handledRecently(CommandId command) {
+        return recentOrigins.contains(command);
+    }
+
+    /**
+     * Verifies if an event in the recent history was caused by the event with the passed ID.
+     */
+    final boolean handledRecently(EventId event) {
+        return recentOrigins.contains(event);
     }
 
     /**
@@ -28,6 +28,7 @@ import io.spine.base.EventMessage;
 import io.spine.core.CommandId;
 import io.spine.core.Event;
 import io.spine.core.EventContext;
+import io.spine.core.Version;
 import io.spine.server.BoundedContext;
 import io.spine.server.ServerEnvironment;
 import io.spine.server.aggregate.model.AggregateClass;
@@ -56,9 +57,12 @@ import io.spine.system.server.Mirror;
 import io.spine.system.server.MirrorRepository;
 import io.spine.system.server.SystemSettings;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -107,9 +111,43 @@ public abstract class AggregateRepository<I, A extends Aggregate<I, ?, ?>>
 
     private @MonotonicNonNull RepositoryCache<I, A> cache;
 
+    /**
+     * The policy of retaining the entities in the cache between the batches.
+     *
+     * <p>If {@code null}, the entities are cached only for the duration of a batch.
+     */
+    private @Nullable RepositoryCache.Retention cacheRetention;
+
     /** The number of events to store between snapshots. */
     private int snapshotTrigger = DEFAULT_SNAPSHOT_TRIGGER;
 
+    /**
+     * The policy which makes a snapshot once the current {@linkplain #snapshotTrigger()
+     * snapshot trigger} is reached.
+     */
+    private final SnapshotPolicy triggerPolicy = eventCount -> eventCount >= snapshotTrigger();
+
+    /**
+     * The policy deciding when to make the aggregate snapshots.
+     *
+     * <p>If {@code null}, the {@link #triggerPolicy} is used.
+     */
+    private @Nullable SnapshotPolicy snapshotPolicy;
+
+    /**
+     * The executor which creates and writes the aggregate snapshots.
+     *
+     * <p>If {@code null}, the snapshots are written along with the events.
+     */
+    private @Nullable Executor snapshotExecutor;
+
+    /**
+     * The number of the latest snapshots of each aggregate to keep in the storage.
+     *
+     * <p>If zero, the storage is not truncated automatically.
+     */
+    private int snapshotsToKeep;
+
     /** Creates a new instance. */
     protected AggregateRepository() {
         super();
@@ -154,6 +192,7 @@ public abstract class AggregateRepository<I, A extends Aggregate<I, ?, ?>>
         initCache(context.isMultitenant());
         initInbox();
         initMirror();
+        checkTruncationSupported();
     }
 
     @Override
@@ -162,7 +201,47 @@ public abstract class AggregateRepository<I, A extends Aggregate<I, ?, ?>>
     }
 
     private void initCache(boolean multitenant) {
-        cache = new RepositoryCache<>(multitenant, this::doLoadOrCreate, this::doStore);
+        cache = cacheRetention == null
+                ? new RepositoryCache<>(multitenant, this::doLoadOrCreate, this::doStore)
+                : new RepositoryCache<>(multitenant, this::doLoadOrCreate, this::doStore,
+                                        cacheRetention, this::copyOf, this::storedVersion);
+    }
+
+    /**
+     * Obtains the cache of the aggregates which are being dispatched messages.
+     */
+    @VisibleForTesting
+    final RepositoryCache<I, A> cache() {
+        return checkNotNull(cache);
+    }
+
+    /**
+     * Creates a copy of the passed aggregate without reading it from the storage.
+     */
+    private A copyOf(A aggregate) {
+        A copy = create(aggregate.id());
+        aggregate.copyTo(copy);
+        return copy;
+    }
+
+    /**
+     * Reads the version of the aggregate from the latest record in its history.
+     */
+    private Optional<Version> storedVersion(I id) {
+        AggregateReadRequest<I> request = new AggregateReadRequest<>(id, 1);
+        Iterator<AggregateEventRecord> history =
+                aggregateStorage().historySinceLatestSnapshot(request);
+        if (!history.hasNext()) {
+            return Optional.empty();
+        }
+        AggregateEventRecord latest = history.next();
+        Version version = latest.hasSnapshot()
+                          ? latest.getSnapshot()
+                                  .getVersion()
+                          : latest.getEvent()
+                                  .context()
+                                  .getVersion();
+        return Optional.of(version);
     }
 
     /**
@@ -480,6 +559,137 @@ public abstract class AggregateRepository<I, A extends Aggregate<I, ?, ?>>
         this.snapshotTrigger = snapshotTrigger;
     }
 
+    /**
+     * Sets the policy deciding when to make the aggregate snapshots.
+     *
+     * <p>By default, a snapshot is made once the number of events stored after the latest
+     * snapshot reaches the {@linkplain #snapshotTrigger() snapshot trigger}.
+     *
+     * <p>The read operations are still optimized around the snapshot trigger. If the policy
+     * makes the snapshots much less often than the trigger tells, consider increasing
+     * the trigger as well.
+     *
+     * @param policy
+     *         the policy deciding when to make the snapshots
+     */
+    protected void setSnapshotPolicy(SnapshotPolicy policy) {
+        this.snapshotPolicy = checkNotNull(policy);
+    }
+
+    /**
+     * Obtains the policy deciding when to make the aggregate snapshots.
+     */
+    final SnapshotPolicy snapshotPolicy() {
+        return snapshotPolicy != null
+               ? snapshotPolicy
+               : triggerPolicy;
+    }
+
+    /**
+     * Makes the repository retain the loaded aggregates in memory between
+     * the delivered batches of messages.
+     *
+     * <p>By default, aggregates are only cached for the duration of a single batch.
+     * Retaining them saves replaying their history for each batch, which benefits
+     * the frequently addressed aggregates.
+     *
+     * <p>A retained aggregate is served to the next batch only if its version matches
+     * the version of the latest record in its stored history. Otherwise, e.g. if the aggregate
+     * was changed by another node, it is loaded from the storage.
+     *
+     * <p>Must be called before the repository is registered with a {@code BoundedContext}.
+     *
+     * @param retention
+     *         the policy of retaining the aggregates
+     */
+    protected void setCacheRetention(RepositoryCache.Retention retention) {
+        checkNotNull(retention);
+        checkState(!isRegistered(),
+                   "The cache retention must be set before the repository is registered.");
+        this.cacheRetention = retention;
+    }
+
+    /**
+     * Makes the repository create and write the aggregate snapshots with the passed executor.
+     *
+     * <p>By default, once the {@linkplain #setSnapshotPolicy(SnapshotPolicy) snapshot policy}
+     * tells so, the snapshot is written along with the events in the course of handling
+     * the signal.
+     * Using an executor moves this work off the signal handling path, lowering its latency.
+     *
+     * <p>The state of the aggregate is captured at the moment the snapshot becomes due.
+     * As the snapshot is written after the events which precede it, reading the aggregate
+     * before the snapshot is written restores the aggregate from the events.
+     *
+     * @param executor
+     *         the executor to create and write the snapshots
+     */
+    protected void setSnapshotExecutor(Executor executor) {
+        this.snapshotExecutor = checkNotNull(executor);
+    }
+
+    /**
+     * Obtains the executor which writes the aggregate snapshots, or {@code null} if the snapshots
+     * are written along with the events.
+     */
+    final @Nullable Executor snapshotExecutor() {
+        return snapshotExecutor;
+    }
+
+    /**
+     * Enables the automatic {@linkplain AggregateStorage#truncateOlderThan(Object, int)
+     * truncation} of the aggregate histories.
+     *
+     * <p>Each time a snapshot of an aggregate is written, the records of this aggregate older
+     * than its {@code snapshotsToKeep}-th latest snapshot are dropped. The histories of other
+     * aggregates and other tenants are not affected.
+     *
+     * <p>The truncation never runs in the course of handling the signal. It is performed by
+     * the {@linkplain #setSnapshotExecutor(Executor) snapshot executor} right after writing
+     * the snapshot. Therefore, the executor must be set before calling this method.
+     *
+     * <p>The {@linkplain #aggregateStorage() storage} must be able to truncate the history of
+     * a single aggregate. Otherwise, the repository refuses to be registered.
+     *
+     * @param snapshotsToKeep
+     *         a positive number of the latest snapshots to keep for each aggregate
+     * @throws IllegalStateException
+     *         if the snapshot executor is not set, or if the repository is registered and its
+     *         storage cannot truncate the history of a single aggregate
+     */
+    protected void setSnapshotsToKeep(int snapshotsToKeep) {
+        checkArgument(snapshotsToKeep > 0);
+        checkState(snapshotExecutor != null,
+                   "The snapshot executor must be set before the number of snapshots to keep.");
+        this.snapshotsToKeep = snapshotsToKeep;
+        if (isRegistered()) {
+            checkTruncationSupported();
+        }
+    }
+
+    /**
+     * Ensures that the storage can truncate the history of a single aggregate if
+     * the {@linkplain #setSnapshotsToKeep(int) automatic truncation} is enabled.
+     */
+    private void checkTruncationSupported() {
+        if (snapshotsToKeep == 0) {
+            return;
+        }
+        AggregateStorage<I> storage = aggregateStorage();
+        checkState(storage.truncatesSingleAggregate(),
+                   "The storage `%s` of the repository `%s` cannot truncate the history of " +
+                           "a single aggregate. The number of snapshots to keep cannot be set.",
+                   storage.getClass().getName(), getClass().getName());
+    }
+
+    /**
+     * Obtains the number of the latest snapshots of each aggregate to keep in the storage,
+     * or {@code 0} if the storage is not truncated automatically.
+     */
+    final int snapshotsToKeep() {
+        return snapshotsToKeep;
+    }
+
     /**
      * Sets up entity state {@linkplain MirrorRepository mirroring} for the aggregates of this
      * repository.
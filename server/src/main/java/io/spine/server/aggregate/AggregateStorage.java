@@ -52,7 +52,9 @@ import static com.google.protobuf.util.Timestamps.checkValid;
 import static io.spine.client.Filters.all;
 import static io.spine.client.Filters.eq;
 import static io.spine.system.server.MirrorProjection.TYPE_COLUMN_NAME;
+import static io.spine.util.Exceptions.unsupported;
 import static io.spine.util.Preconditions2.checkNotEmptyOrBlank;
+import static java.lang.String.format;
 
 /**
  * An event-sourced storage of aggregate part events and snapshots.
@@ -133,7 +135,7 @@ public abstract class AggregateStorage<I>
 
     /**
      * Forms and returns an {@link AggregateHistory} based on the
-     * {@linkplain #historyBackward(AggregateReadRequest) aggregate history}.
+     * {@linkplain #historySinceLatestSnapshot(AggregateReadRequest) aggregate history}.
      *
      * @param request
      *         the aggregate read request based on which to form a record
@@ -264,6 +266,32 @@ public abstract class AggregateStorage<I>
     protected abstract Iterator<AggregateEventRecord>
     historyBackward(AggregateReadRequest<I> request);
 
+    /**
+     * Creates iterator of the aggregate history with the reverse traversal, which ends
+     * with the latest snapshot.
+     *
+     * <p>Only the latest snapshot and the records newer than it are required to restore
+     * an aggregate. This method is used to {@linkplain #read(AggregateReadRequest) read}
+     * the aggregate history.
+     *
+     * <p>The implementations are encouraged to override this method, e.g. by keeping track
+     * of the position of the latest snapshot for each aggregate. The records should be read
+     * lazily, in batches of the {@linkplain AggregateReadRequest#batchSize() requested size}.
+     * The iterator may also go beyond the latest snapshot, as the records following it
+     * are ignored.
+     *
+     * <p>By default, returns the whole {@linkplain #historyBackward(AggregateReadRequest)
+     * history} of the aggregate.
+     *
+     * @param request
+     *         the read request
+     * @return new iterator instance
+     */
+    protected Iterator<AggregateEventRecord>
+    historySinceLatestSnapshot(AggregateReadRequest<I> request) {
+        return historyBackward(request);
+    }
+
     /**
      * Truncates the storage, dropping all records which occur before the Nth snapshot for each
      * entity.
@@ -303,11 +331,54 @@ public abstract class AggregateStorage<I>
         truncate(snapshotIndex, date);
     }
 
+    /**
+     * Truncates the history of a single aggregate, dropping all its records which occur before
+     * its Nth snapshot.
+     *
+     * <p>The snapshot index is counted from the latest to earliest, with {@code 0} representing
+     * the latest snapshot.
+     *
+     * <p>The snapshot index higher than the overall snapshot count of the aggregate is allowed,
+     * the records remain intact in this case.
+     *
+     * @throws IllegalArgumentException
+     *         if the {@code snapshotIndex} is negative
+     */
+    @Internal
+    public void truncateOlderThan(I id, int snapshotIndex) {
+        checkNotNull(id);
+        checkArgument(snapshotIndex >= 0, TRUNCATE_ON_WRONG_SNAPSHOT_MESSAGE);
+        truncate(id, snapshotIndex);
+    }
+
     /**
      * Drops all records which occur before the Nth snapshot for each entity.
      */
     protected abstract void truncate(int snapshotIndex);
 
+    /**
+     * Drops all records which occur before the Nth snapshot of the given aggregate.
+     *
+     * <p>By default, throws {@code UnsupportedOperationException}. The storages able to
+     * truncate the history of a single aggregate should override this method along with
+     * {@link #truncatesSingleAggregate()}.
+     */
+    protected void truncate(I id, int snapshotIndex) {
+        throw unsupported(format(
+                "The storage `%s` cannot truncate the history of a single aggregate.",
+                getClass().getName()));
+    }
+
+    /**
+     * Tells if the storage can {@linkplain #truncateOlderThan(Object, int) truncate}
+     * the history of a single aggregate.
+     *
+     * <p>Returns {@code false} by default.
+     */
+    protected boolean truncatesSingleAggregate() {
+        return false;
+    }
+
     /**
      * Drops all records older than {@code date} but not newer than the Nth snapshot for each
      * entity.
@@ -23,14 +23,12 @@ package io.spine.server.aggregate;
 import io.spine.base.Error;
 import io.spine.core.CommandId;
 import io.spine.core.CommandValidationError;
-import io.spine.core.Event;
 import io.spine.core.EventId;
 import io.spine.core.EventValidationError;
 import io.spine.server.type.CommandEnvelope;
 import io.spine.server.type.EventEnvelope;
 
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import static io.spine.core.CommandValidationError.DUPLICATE_COMMAND_VALUE;
 import static io.spine.core.EventValidationError.DUPLICATE_EVENT_VALUE;
@@ -104,7 +102,7 @@ final class IdempotencyGuard {
     /**
      * Checks if the event was already handled by the aggregate since last snapshot.
      *
-     * <p>The check is performed by searching for an event caused by this event that was
+     * <p>The check is performed by looking up an event caused by this event among the events
      * committed since last snapshot.
      *
      * <p>This functionality supports the ability to stop duplicate events from being dispatched
@@ -116,23 +114,14 @@ final class IdempotencyGuard {
      */
     private boolean didHandleRecently(EventEnvelope event) {
         EventId eventId = event.id();
-        Predicate<Event> causedByEvent = e -> e.context()
-                                               .getPastMessage()
-                                               .messageId()
-                                               .isEvent();
-        Predicate<Event> originHasGivenId = e -> e.context()
-                                                  .getPastMessage()
-                                                  .messageId()
-                                                  .asEventId()
-                                                  .equals(eventId);
-        boolean found = aggregate.historyContains(causedByEvent.and(originHasGivenId));
+        boolean found = aggregate.handledRecently(eventId);
         return found;
     }
 
     /**
      * Checks if the command was already handled by the aggregate since last snapshot.
      *
-     * <p>The check is performed by searching for an event caused by this command that was
+     * <p>The check is performed by looking up an event caused by this command among the events
      * committed since last snapshot.
      *
      * <p>This functionality supports the ability to stop duplicate commands from being dispatched
@@ -144,16 +133,7 @@ final class IdempotencyGuard {
      */
     private boolean didHandleRecently(CommandEnvelope command) {
         CommandId commandId = command.id();
-        Predicate<Event> causedByCommand = e -> e.context()
-                                                 .getPastMessage()
-                                                 .messageId()
-                                                 .isCommand();
-        Predicate<Event> originHasGivenId = e -> e.context()
-                                                  .getPastMessage()
-                                                  .messageId()
-                                                  .asCommandId()
-                                                  .equals(commandId);
-        boolean found = aggregate.historyContains(causedByCommand.and(originHasGivenId));
+        boolean found = aggregate.handledRecently(commandId);
         return found;
     }
 }
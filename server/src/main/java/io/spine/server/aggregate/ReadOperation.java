@@ -53,7 +53,8 @@ final class ReadOperation<I> {
     }
 
     Optional<AggregateHistory> perform() {
-        Iterator<AggregateEventRecord> historyBackward = storage.historyBackward(request);
+        Iterator<AggregateEventRecord> historyBackward =
+                storage.historySinceLatestSnapshot(request);
         if (!historyBackward.hasNext()) {
             return Optional.empty();
         }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.aggregate;
+
+import io.spine.annotation.SPI;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A policy which decides when an {@link Aggregate} snapshot should be made.
+ *
+ * <p>The policy is consulted each time the events of an aggregate are written to the storage.
+ * By default, an {@link AggregateRepository} makes a snapshot once the number of events stored
+ * after the latest snapshot reaches the {@linkplain AggregateRepository#snapshotTrigger()
+ * snapshot trigger}.
+ *
+ * @see AggregateRepository#setSnapshotPolicy(SnapshotPolicy)
+ */
+@SPI
+@FunctionalInterface
+public interface SnapshotPolicy {
+
+    /**
+     * Tells if a snapshot of the aggregate should be made.
+     *
+     * @param eventCount
+     *         the number of events of the aggregate stored after its latest snapshot,
+     *         including the events being written
+     * @return {@code true} if the snapshot should be made, {@code false} otherwise
+     */
+    boolean isSnapshotDue(int eventCount);
+
+    /**
+     * Creates a policy which makes a snapshot once the passed number of events is stored after
+     * the latest snapshot.
+     *
+     * @param eventCount
+     *         a positive number of events between the snapshots
+     */
+    static SnapshotPolicy everyEvents(int eventCount) {
+        checkArgument(eventCount > 0);
+        return count -> count >= eventCount;
+    }
+}
@@ -20,10 +20,17 @@
 
 package io.spine.server.aggregate;
 
+import io.spine.base.EntityState;
 import io.spine.core.Event;
+import io.spine.core.Version;
+import io.spine.logging.Logging;
+import io.spine.server.tenant.TenantAwareRunner;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Lists.newArrayListWithCapacity;
@@ -32,22 +39,37 @@ import static com.google.common.collect.Lists.newArrayListWithCapacity;
  * An {@link Aggregate} write operation.
  *
  * <p>Stores the given aggregate into the associated storage.
+ *
+ * <p>If the repository of the aggregate
+ * {@linkplain AggregateRepository#setSnapshotExecutor(Executor) writes snapshots in background},
+ * only the events are written synchronously. The snapshot is created and written
+ * by the configured executor.
+ *
+ * <p>If the repository {@linkplain AggregateRepository#setSnapshotsToKeep(int) truncates}
+ * the aggregate histories, the history of the aggregate is truncated by the same executor
+ * once its snapshot is written.
  */
-final class Write<I> {
+final class Write<I> implements Logging {
 
     private final AggregateStorage<I> storage;
     private final Aggregate<I, ?, ?> aggregate;
     private final I id;
-    private final int snapshotTrigger;
+    private final SnapshotPolicy snapshotPolicy;
+    private final @Nullable Executor snapshotExecutor;
+    private final int snapshotsToKeep;
 
     private Write(AggregateStorage<I> storage,
                   Aggregate<I, ?, ?> aggregate,
                   I id,
-                  int snapshotTrigger) {
+                  SnapshotPolicy snapshotPolicy,
+                  @Nullable Executor snapshotExecutor,
+                  int snapshotsToKeep) {
         this.storage = storage;
         this.aggregate = aggregate;
         this.id = id;
-        this.snapshotTrigger = snapshotTrigger;
+        this.snapshotPolicy = snapshotPolicy;
+        this.snapshotExecutor = snapshotExecutor;
+        this.snapshotsToKeep = snapshotsToKeep;
     }
 
     /**
@@ -67,9 +89,10 @@ final class Write<I> {
         checkNotNull(aggregate);
 
         AggregateStorage<I> storage = repository.aggregateStorage();
-        int snapshotTrigger = repository.snapshotTrigger();
+        SnapshotPolicy snapshotPolicy = repository.snapshotPolicy();
         I id = aggregate.id();
-        return new Write<>(storage, aggregate, id, snapshotTrigger);
+        return new Write<>(storage, aggregate, id, snapshotPolicy,
+                           repository.snapshotExecutor(), repository.snapshotsToKeep());
     }
 
     /**
@@ -78,16 +101,20 @@ final class Write<I> {
     void perform() {
         UncommittedEvents uncommittedEvents = aggregate.getUncommittedEvents();
         List<Event> eventsToStore = uncommittedEvents.list();
-        writeEvents(eventsToStore);
+        if (snapshotExecutor != null) {
+            writeEventsAndSnapshotInBackground(eventsToStore, snapshotExecutor);
+        } else {
+            writeEvents(eventsToStore);
+        }
     }
 
     private void writeEvents(List<Event> events) {
         int eventCount = aggregate.eventCountAfterLastSnapshot();
-        Collection<Event> eventBatch = newArrayListWithCapacity(snapshotTrigger);
+        Collection<Event> eventBatch = newArrayListWithCapacity(events.size());
         for (Event event : events) {
             eventBatch.add(event);
             eventCount++;
-            if (eventCount >= snapshotTrigger) {
+            if (snapshotPolicy.isSnapshotDue(eventCount)) {
                 persist(events, aggregate.toSnapshot());
                 aggregate.clearRecentHistory();
                 eventBatch.clear();
@@ -100,6 +127,77 @@ final class Write<I> {
         commit(eventCount);
     }
 
+    /**
+     * Writes the events to the storage and, if the snapshot policy tells so, schedules
+     * the writing of the snapshot of the current aggregate state.
+     */
+    private void writeEventsAndSnapshotInBackground(List<Event> events, Executor executor) {
+        if (!events.isEmpty()) {
+            persist(events);
+        }
+        int eventCount = aggregate.eventCountAfterLastSnapshot() + events.size();
+        if (snapshotPolicy.isSnapshotDue(eventCount)) {
+            scheduleSnapshot(executor);
+            aggregate.clearRecentHistory();
+            eventCount = 0;
+        }
+        commit(eventCount);
+    }
+
+    /**
+     * Captures the current state and version of the aggregate and passes the creation and
+     * writing of the snapshot to the executor.
+     *
+     * <p>Once the snapshot is written, the history of the aggregate is truncated,
+     * if configured.
+     */
+    private void scheduleSnapshot(Executor executor) {
+        EntityState state = aggregate.state();
+        Version version = aggregate.version();
+        runInBackground(executor, () -> {
+            Snapshot snapshot = Aggregate.snapshotOf(state, version);
+            storage.writeSnapshot(id, snapshot);
+            truncateHistory();
+        }, "write the snapshot");
+    }
+
+    private void truncateHistory() {
+        if (snapshotsToKeep > 0) {
+            storage.truncateOlderThan(id, snapshotsToKeep - 1);
+        }
+    }
+
+    /**
+     * Runs the passed task with the executor for the current tenant.
+     *
+     * <p>As there is no caller to report the failures to, they are logged. If the task fails
+     * or is rejected, the aggregate is read from its events until its next snapshot is written.
+     *
+     * @param executor
+     *         the executor to run the task
+     * @param task
+     *         the task to run
+     * @param operation
+     *         the description of the task to use in the log messages
+     */
+    @SuppressWarnings("OverlyBroadCatchBlock") // Any failure of the task should be logged.
+    private void runInBackground(Executor executor, Runnable task, String operation) {
+        TenantAwareRunner runner = TenantAwareRunner.withCurrentTenant(storage.isMultitenant());
+        try {
+            executor.execute(() -> {
+                try {
+                    runner.run(task);
+                } catch (RuntimeException e) {
+                    _error().withCause(e)
+                            .log("Unable to %s of the aggregate `%s`.", operation, id);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            _warn().withCause(e)
+                   .log("The executor refused to %s of the aggregate `%s`.", operation, id);
+        }
+    }
+
     private void persist(Collection<Event> events, Snapshot snapshot) {
         AggregateHistory record = AggregateHistory
                 .newBuilder()
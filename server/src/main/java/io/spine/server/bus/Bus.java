@@ -31,13 +31,13 @@ import io.spine.core.Signal;
 import io.spine.core.SignalId;
 import io.spine.logging.Logging;
 import io.spine.server.Closeable;
-import io.spine.server.type.MessageEnvelope;
 import io.spine.server.type.SignalEnvelope;
 import io.spine.type.MessageClass;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -141,13 +141,28 @@ public abstract class Bus<T extends Signal<?, ?, ?>,
     public final void post(Iterable<T> messages, StreamObserver<Ack> observer) {
         checkNotNull(messages);
         checkNotNull(observer);
-        messages.forEach(message -> listeners.accept(toEnvelope(message)));
+        List<E> envelopes = toEnvelopes(messages);
+        envelopes.forEach(listeners);
         StreamObserver<Ack> wrappedObserver = prepareObserver(messages, observer);
-        filterAndPost(messages, wrappedObserver);
+        filterAndPost(envelopes, wrappedObserver);
     }
 
-    private void filterAndPost(Iterable<T> messages, StreamObserver<Ack> observer) {
-        Map<T, E> filteredMessages = filter(messages, observer);
+    /**
+     * Packs each of the given messages into an envelope.
+     *
+     * <p>The envelopes are created once per posting and are then passed to the listeners,
+     * the filters, and the dispatchers.
+     */
+    private List<E> toEnvelopes(Iterable<T> messages) {
+        List<E> envelopes = new ArrayList<>();
+        for (T message : messages) {
+            envelopes.add(toEnvelope(message));
+        }
+        return envelopes;
+    }
+
+    private void filterAndPost(List<E> envelopes, StreamObserver<Ack> observer) {
+        Map<T, E> filteredMessages = filter(envelopes, observer);
         if (!filteredMessages.isEmpty()) {
             store(filteredMessages.keySet());
             Iterable<E> envelopes = filteredMessages.values();
@@ -244,7 +259,8 @@ public abstract class Bus<T extends Signal<?, ?, ?>,
     /**
      * Filters the given messages.
      *
-     * <p>Each message goes through the filter chain, specific to the {@code Bus} implementation.
+     * <p>The messages go through the filter chain, specific to the {@code Bus} implementation,
+     * {@linkplain BusFilter#acceptAll(java.util.Collection) as a batch}.
      *
      * <p>If a message passes the filtering, it is included into the resulting {@link Iterable};
      * otherwise, {@linkplain StreamObserver#onNext StreamObserver.onNext()} is called for that
@@ -253,8 +269,8 @@ public abstract class Bus<T extends Signal<?, ?, ?>,
      * <p>Any filter in the filter chain may process the message by itself. In this case an observer
      * is notified by the filter directly.
      *
-     * @param messages
-     *         the message to filter
+     * @param envelopes
+     *         the envelopes with the messages to filter
      * @param observer
      *         the observer to receive the negative outcome of the operation
      * @return a map of filtered messages where keys are messages, and values are envelopes with
@@ -263,40 +279,21 @@ public abstract class Bus<T extends Signal<?, ?, ?>,
      *         dispatching. Messages in the returned map come in the same order as in
      *         the incoming sequence.
      */
-    private Map<T, E> filter(Iterable<T> messages, StreamObserver<Ack> observer) {
-        checkNotNull(messages);
+    private Map<T, E> filter(List<E> envelopes, StreamObserver<Ack> observer) {
+        checkNotNull(envelopes);
         checkNotNull(observer);
+        Map<E, Ack> rejected = filterChain().acceptAll(envelopes);
         Map<T, E> result = new LinkedHashMap<>();
-        for (T message : messages) {
-            E envelope = toEnvelope(message);
-            Optional<Ack> response = filter(envelope);
-            if (response.isPresent()) {
-                observer.onNext(response.get());
+        for (E envelope : envelopes) {
+            if (!rejected.isEmpty() && rejected.containsKey(envelope)) {
+                observer.onNext(rejected.get(envelope));
             } else {
-                result.put(message, envelope);
+                result.put(envelope.outerObject(), envelope);
             }
         }
         return result;
     }
 
-    /**
-     * Feeds the given message to the bus filters.
-     *
-     * <p>If the given message is completely processed and should not be passed to the dispatchers,
-     * the returned {@link Optional} contains a value with either status.
-     *
-     * <p>If the message should be passed to the dispatchers, the result of this method is
-     * {@link Optional#empty()}.
-     *
-     * @param message the {@linkplain MessageEnvelope message envelope} to pre-process
-     * @return the result of message processing by this bus if any, or
-     * {@link Optional#empty()} otherwise
-     */
-    private Optional<Ack> filter(E message) {
-        Optional<Ack> filterOutput = filterChain().accept(message);
-        return filterOutput;
-    }
-
     /**
      * Packs the given message of type {@code T} into an envelope of type {@code E}.
      *
@@ -24,6 +24,9 @@ import io.spine.annotation.SPI;
 import io.spine.core.Ack;
 import io.spine.server.type.MessageEnvelope;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -53,6 +56,27 @@ public interface BusFilter<E extends MessageEnvelope<?, ?, ?>> extends AutoClose
      */
     Optional<Ack> accept(E envelope);
 
+    /**
+     * Accepts or rejects each of the passed messages.
+     *
+     * <p>A bus passes all the messages posted at once to this method. A filter which can
+     * process a batch of messages faster than each message separately may override it.
+     *
+     * <p>By default, {@linkplain #accept(MessageEnvelope) accepts} the messages one by one.
+     *
+     * @param envelopes
+     *         the envelopes with the messages to filter
+     * @return {@linkplain Ack posting results} of the rejected messages by their envelopes;
+     *         the messages which pass the filter are not included
+     */
+    default Map<E, Ack> acceptAll(Collection<E> envelopes) {
+        Map<E, Ack> rejected = new LinkedHashMap<>();
+        for (E envelope : envelopes) {
+            accept(envelope).ifPresent(ack -> rejected.put(envelope, ack));
+        }
+        return rejected;
+    }
+
     /**
      * {@inheritDoc}
      *
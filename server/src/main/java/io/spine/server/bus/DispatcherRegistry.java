@@ -22,12 +22,17 @@ package io.spine.server.bus;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Multimap;
 import com.google.protobuf.Message;
 import io.spine.server.type.MessageEnvelope;
 import io.spine.type.MessageClass;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiPredicate;
@@ -35,8 +40,6 @@ import java.util.function.BiPredicate;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
-import static com.google.common.collect.ImmutableSet.toImmutableSet;
-import static com.google.common.collect.Multimaps.synchronizedMultimap;
 
 /**
  * A registry of message dispatchers.
@@ -55,13 +58,31 @@ public abstract class DispatcherRegistry<C extends MessageClass<? extends Messag
      * will allow only one dispatcher per message class. This should be handled
      * when registering dispatchers.
      */
-    private final Multimap<C, D> dispatchers = synchronizedMultimap(HashMultimap.create());
+    private final Multimap<C, D> dispatchers = HashMultimap.create();
+
+    /**
+     * The immutable copy of the {@link #dispatchers} map, which is used for looking up
+     * the dispatchers of messages.
+     *
+     * <p>The dispatchers are normally registered once, when the context is built, while
+     * the messages are dispatched all the time. So the table is compiled anew upon each change
+     * of the registered dispatchers, and is read without locking.
+     */
+    private volatile ImmutableSetMultimap<C, D> dispatchTable = ImmutableSetMultimap.of();
+
+    /**
+     * The {@linkplain #attributeFilter() attribute filter}, obtained upon the first use.
+     */
+    private volatile @MonotonicNonNull BiPredicate<E, D> attributeFilter;
 
     public void register(D dispatcher) {
         checkDispatcher(dispatcher);
         Set<C> messageClasses = dispatcher.messageClasses();
-        for (C messageClass : messageClasses) {
-            dispatchers.put(messageClass, dispatcher);
+        synchronized (dispatchers) {
+            for (C messageClass : messageClasses) {
+                dispatchers.put(messageClass, dispatcher);
+            }
+            compileTable();
         }
     }
 
@@ -70,8 +91,11 @@ public abstract class DispatcherRegistry<C extends MessageClass<? extends Messag
         checkNotEmpty(dispatcher);
 
         Set<C> messageClasses = dispatcher.messageClasses();
-        for (C messageClass : messageClasses) {
-            dispatchers.remove(messageClass, dispatcher);
+        synchronized (dispatchers) {
+            for (C messageClass : messageClasses) {
+                dispatchers.remove(messageClass, dispatcher);
+            }
+            compileTable();
         }
     }
 
@@ -79,14 +103,26 @@ public abstract class DispatcherRegistry<C extends MessageClass<? extends Messag
      * Unregisters all dispatchers.
      */
     protected void unregisterAll() {
-        dispatchers.clear();
+        synchronized (dispatchers) {
+            dispatchers.clear();
+            compileTable();
+        }
+    }
+
+    /**
+     * Replaces the dispatch table with the copy of the current registrations.
+     *
+     * <p>Must be called while holding the lock on the {@link #dispatchers} map.
+     */
+    private void compileTable() {
+        dispatchTable = ImmutableSetMultimap.copyOf(dispatchers);
     }
 
     /**
      * Obtains message classes from all registered dispatchers.
      */
     protected Set<C> registeredMessageClasses() {
-        return dispatchers.keySet();
+        return dispatchTable.keySet();
     }
 
     /**
@@ -99,13 +135,38 @@ public abstract class DispatcherRegistry<C extends MessageClass<? extends Messag
     final Set<D> dispatchersOf(E envelope) {
         checkNotNull(envelope);
         C messageClass = classOf(envelope);
-        Set<D> dispatchers = this.dispatchers
-                .get(messageClass)
-                .stream()
-                .filter(dispatcher -> dispatcher.canDispatch(envelope))
-                .filter(dispatcher -> attributeFilter().test(envelope, dispatcher))
-                .collect(toImmutableSet());
-        return dispatchers;
+        ImmutableSet<D> candidates = dispatchTable.get(messageClass);
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        BiPredicate<E, D> attributeFilter = cachedAttributeFilter();
+        @Nullable List<D> matching = null;
+        int index = 0;
+        for (D dispatcher : candidates) {
+            boolean matches = dispatcher.canDispatch(envelope)
+                    && attributeFilter.test(envelope, dispatcher);
+            if (matching == null) {
+                if (!matches) {
+                    matching = new ArrayList<>(candidates.asList()
+                                                         .subList(0, index));
+                }
+            } else if (matches) {
+                matching.add(dispatcher);
+            }
+            index++;
+        }
+        return matching == null
+               ? candidates
+               : ImmutableSet.copyOf(matching);
+    }
+
+    private BiPredicate<E, D> cachedAttributeFilter() {
+        BiPredicate<E, D> result = attributeFilter;
+        if (result == null) {
+            result = attributeFilter();
+            attributeFilter = result;
+        }
+        return result;
     }
 
     /**
@@ -143,8 +204,7 @@ public abstract class DispatcherRegistry<C extends MessageClass<? extends Messag
      */
     protected Set<D> dispatchersOf(C messageClass) {
         checkNotNull(messageClass);
-        Collection<D> dispatchersForType = dispatchers.get(messageClass);
-        return ImmutableSet.copyOf(dispatchersForType);
+        return dispatchTable.get(messageClass);
     }
 
     /**
@@ -156,7 +216,7 @@ public abstract class DispatcherRegistry<C extends MessageClass<? extends Messag
      *         if more than one dispatcher is found
      */
     protected Optional<? extends D> getDispatcherForType(C messageClass) {
-        Collection<D> dispatchersOfClass = dispatchers.get(messageClass);
+        Collection<D> dispatchersOfClass = dispatchTable.get(messageClass);
         checkNotMoreThanOne(dispatchersOfClass, messageClass);
         Optional<D> dispatcher = dispatchersOfClass.stream()
                                                    .findFirst();
@@ -25,12 +25,16 @@ import io.spine.core.Ack;
 import io.spine.server.Closeable;
 import io.spine.server.type.MessageEnvelope;
 
+import java.util.Collection;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
 /**
  * A {@link BusFilter} representing a chain of other bus filters.
@@ -62,6 +66,33 @@ final class FilterChain<E extends MessageEnvelope<?, ?, ?>> implements BusFilter
         return Optional.empty();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Passes the whole batch to the first filter, then the messages which pass it
+     * to the next filter, and so on.
+     */
+    @Override
+    public Map<E, Ack> acceptAll(Collection<E> envelopes) {
+        checkNotNull(envelopes);
+        checkOpen();
+        Map<E, Ack> rejected = new HashMap<>();
+        Collection<E> remaining = envelopes;
+        for (BusFilter<E> filter : chain) {
+            if (remaining.isEmpty()) {
+                break;
+            }
+            Map<E, Ack> output = filter.acceptAll(remaining);
+            if (!output.isEmpty()) {
+                rejected.putAll(output);
+                remaining = remaining.stream()
+                                     .filter(envelope -> !output.containsKey(envelope))
+                                     .collect(toList());
+            }
+        }
+        return rejected;
+    }
+
     boolean contains(BusFilter<E> filter) {
         return chain.contains(filter);
     }
@@ -25,8 +25,21 @@ import io.spine.core.SignalId;
 import io.spine.server.ServerEnvironment;
 import io.spine.server.type.SignalEnvelope;
 import io.spine.type.MessageClass;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static io.spine.server.tenant.TenantAwareRunner.withCurrentTenant;
+import static java.util.concurrent.CompletableFuture.runAsync;
 
 /**
  * A {@code Bus}, which delivers a single message to multiple dispatchers.
@@ -65,6 +78,64 @@ public abstract class MulticastBus<M extends Signal<?, ?, ?>,
         return dispatchers.size();
     }
 
+    /**
+     * Calls the dispatchers for the {@code messageEnvelope} concurrently.
+     *
+     * <p>One of the dispatchers is called on the current thread, and the rest of them
+     * are called by the passed executor for the current tenant. The method returns after all
+     * the dispatchers complete, so each dispatcher receives the messages posted from one thread
+     * in the order of posting.
+     *
+     * <p>If any of the dispatchers fails, or the executor rejects a dispatcher, the first failure
+     * is rethrown after all the submitted dispatchers complete.
+     *
+     * @param messageEnvelope
+     *         the message envelope to pass to the dispatchers
+     * @param executor
+     *         the executor to call the dispatchers
+     * @return the number of the dispatchers called or {@code 0} if there weren't any
+     */
+    protected int callDispatchersConcurrently(E messageEnvelope, Executor executor) {
+        checkNotNull(executor);
+        Collection<D> dispatchers = registry().dispatchersOf(messageEnvelope);
+        int count = dispatchers.size();
+        if (count == 0) {
+            return count;
+        }
+        Iterator<D> iterator = dispatchers.iterator();
+        D onCurrentThread = iterator.next();
+        List<CompletableFuture<Void>> dispatching = new ArrayList<>(count - 1);
+        @Nullable Throwable failure = null;
+        try {
+            while (iterator.hasNext()) {
+                D dispatcher = iterator.next();
+                Runnable dispatch = withCurrentTenant(() -> dispatcher.dispatch(messageEnvelope));
+                dispatching.add(runAsync(dispatch, executor));
+            }
+            onCurrentThread.dispatch(messageEnvelope);
+        } catch (Throwable t) {
+            failure = t;
+        }
+        for (CompletableFuture<Void> future : dispatching) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            } catch (CancellationException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throwIfUnchecked(failure);
+            throw new IllegalStateException(failure);
+        }
+        return count;
+    }
+
     @Override
     protected final void onDispatchingStarted(SignalId signal) {
         listener.onStarted(signal);
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.delivery;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.MultimapBuilder;
+import io.spine.core.SignalId;
+import io.spine.server.bus.MulticastDispatchListener;
+import io.spine.server.tenant.TenantAwareRunner;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static com.google.common.collect.Multimaps.synchronizedListMultimap;
+import static java.util.Collections.synchronizedSet;
+
+/**
+ * A writer of {@link Inbox Inbox} messages, which writes the messages produced while
+ * dispatching a signal in a single batch.
+ *
+ * <p>Listens to the signals dispatched via the {@code MulticastBus}es. While the signal is being
+ * dispatched to its multicast targets, the messages produced for these targets are accumulated.
+ * Once the dispatching is completed, the messages are {@linkplain InboxStorage#writeAll(Iterable)
+ * written} to the storage at once, and the shard observers are notified once per each
+ * updated shard.
+ *
+ * <p>The messages written outside of the multicast dispatching are written and propagated
+ * to the observers immediately.
+ *
+ * <p>Serves as a replacement of both {@link NotifyingWriter} and
+ * {@link DeliveryDispatchListener}.
+ */
+final class BatchingWriter implements InboxWriter, MulticastDispatchListener {
+
+    private final Multimap<SignalId, InboxMessage> pending =
+            synchronizedListMultimap(MultimapBuilder.hashKeys()
+                                                    .arrayListValues()
+                                                    .build());
+
+    private final Set<SignalId> currentlyDispatching = synchronizedSet(new HashSet<>());
+
+    private final InboxStorage storage;
+    private final Consumer<InboxMessage> onNewMessage;
+
+    BatchingWriter(InboxStorage storage, Consumer<InboxMessage> onNewMessage) {
+        this.storage = storage;
+        this.onNewMessage = onNewMessage;
+    }
+
+    @Override
+    public void onStarted(SignalId signal) {
+        currentlyDispatching.add(signal);
+    }
+
+    @Override
+    public void onCompleted(SignalId signal) {
+        boolean removed = currentlyDispatching.remove(signal);
+        if (removed) {
+            Collection<InboxMessage> messages = pending.removeAll(signal);
+            if (!messages.isEmpty()) {
+                flush(ImmutableList.copyOf(messages));
+            }
+        }
+    }
+
+    @Override
+    public void write(InboxMessage message) {
+        SignalId id = DeliveryDispatchListener.signalOf(message);
+        if (currentlyDispatching.contains(id)) {
+            pending.put(id, message);
+        } else {
+            storage.write(message);
+            onNewMessage.accept(message);
+        }
+    }
+
+    /**
+     * Writes the messages of a single signal to the storage and notifies of the updated shards.
+     *
+     * <p>As the messages are produced by the same signal, they all belong to the same tenant.
+     */
+    private void flush(ImmutableList<InboxMessage> messages) {
+        Map<ShardIndex, InboxMessage> firstPerShard = new LinkedHashMap<>();
+        for (InboxMessage message : messages) {
+            firstPerShard.putIfAbsent(message.shardIndex(), message);
+        }
+        TenantAwareRunner
+                .with(messages.get(0)
+                              .tenant())
+                .run(() -> {
+                    storage.writeAll(messages);
+                    firstPerShard.values()
+                                 .forEach(onNewMessage);
+                });
+    }
+}
@@ -34,14 +34,19 @@ import io.spine.server.delivery.memory.InMemoryShardedWorkRegistry;
 import io.spine.server.projection.ProjectionRepository;
 import io.spine.string.Stringifiers;
 import io.spine.type.TypeUrl;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Throwables.throwIfUnchecked;
 import static com.google.common.flogger.LazyArgs.lazy;
 import static java.util.Collections.synchronizedList;
 
@@ -193,7 +198,8 @@ import static java.util.Collections.synchronizedList;
  * uses {@linkplain LocalDispatchingObserver see-and-dispatch observer}, which delivers the
  * messages from the observed shard once a message is passed to its
  * {@link LocalDispatchingObserver#onMessage(InboxMessage) onMessage(InboxMessage)} method. This
- * process is synchronous.
+ * process is synchronous. An {@linkplain #localAsync(Executor) asynchronous} version
+ * of the local delivery is also available.
  *
  * <p>To deal with the multi-threaded access in a local mode,
  * an {@linkplain InMemoryShardedWorkRegistry} is used. It operates on top of the
@@ -292,6 +298,16 @@ public final class Delivery implements Logging {
     private final DeliveryDispatchListener dispatchListener =
             new DeliveryDispatchListener(this::onNewMessage);
 
+    /**
+     * The writer of the {@code Inbox} messages, which writes the messages produced by a single
+     * signal in a batch.
+     *
+     * <p>Is {@code null} if the batching of writes is not
+     * {@linkplain DeliveryBuilder#setBatchInboxWrites(boolean) enabled}. Otherwise, replaces
+     * the {@link #dispatchListener} in its role.
+     */
+    private final @Nullable BatchingWriter batchingWriter;
+
     Delivery(DeliveryBuilder builder) {
         this.strategy = builder.getStrategy();
         this.workRegistry = builder.getWorkRegistry();
@@ -304,6 +320,9 @@ public final class Delivery implements Logging {
         this.deliveries = new InboxDeliveries();
         this.shardObservers = synchronizedList(new ArrayList<>());
         this.deliveredMessages = new DeliveredMessages();
+        this.batchingWriter = builder.batchInboxWrites()
+                              ? new BatchingWriter(inboxStorage, this::onNewMessage)
+                              : null;
     }
 
     /**
@@ -342,7 +361,10 @@ public final class Delivery implements Logging {
      * If it was not configured in the {@code ServerEnvironment}, a new {@code
      * InMemoryStorageFactory} used.
      *
+     * <p>The delivery is performed by a fixed pool of threads, one per available processor.
+     *
      * @see #local() to create a syncrhonous version of the local {@code Delivery}
+     * @see #localAsync(Executor) to specify the executor performing the delivery
      */
     public static Delivery localAsync() {
         Delivery delivery = newBuilder()
@@ -352,6 +374,28 @@ public final class Delivery implements Logging {
         return delivery;
     }
 
+    /**
+     * Creates a new instance of {@code Delivery} for local and development environment,
+     * which delivers the {@code InboxMessage}s to their targets with the given executor.
+     *
+     * <p>At most one delivery from a particular shard is run by the executor at a time.
+     *
+     * <p>The returned instance of {@code Delivery} is configured to use
+     * {@linkplain UniformAcrossAllShards#singleShard() the single shard}.
+     *
+     * @param executor
+     *         the executor to perform the delivery
+     * @see #localAsync() to use the default executor
+     */
+    public static Delivery localAsync(Executor executor) {
+        checkNotNull(executor);
+        Delivery delivery = newBuilder()
+                .setStrategy(UniformAcrossAllShards.singleShard())
+                .build();
+        delivery.subscribe(new LocalDispatchingObserver(executor));
+        return delivery;
+    }
+
     /**
      * Creates a new instance of {@code Delivery} suitable for local and development environment
      * with the given number of shards.
@@ -434,6 +478,8 @@ public final class Delivery implements Logging {
      * Runs the delivery for the shard, which session is passed.
      *
      * <p>The messages are read page-by-page according to the {@link #pageSize page size} setting.
+     * The reading of the next page is {@linkplain Page#nextAsync() started} before the current
+     * page is dispatched.
      *
      * <p>After delivering each page of messages, a {@code DeliveryStage} is produced.
      * The configured {@link #monitor DeliveryMonitor} may stop the execution according to
@@ -451,6 +497,7 @@ public final class Delivery implements Logging {
         List<DeliveryStage> stages = new ArrayList<>();
         while (continueAllowed && maybePage.isPresent()) {
             Page<InboxMessage> currentPage = maybePage.get();
+            CompletableFuture<Optional<Page<InboxMessage>>> nextPage = currentPage.nextAsync();
             ImmutableList<InboxMessage> messages = currentPage.contents();
             if (!messages.isEmpty()) {
                 DeliveryAction action = new GroupByTargetAndDeliver(deliveries);
@@ -462,7 +509,9 @@ public final class Delivery implements Logging {
                 stages.add(stage);
             }
             if (continueAllowed) {
-                maybePage = currentPage.next();
+                maybePage = await(nextPage);
+            } else {
+                nextPage.cancel(false);
             }
         }
 
@@ -472,6 +521,19 @@ public final class Delivery implements Logging {
         return new RunResult(totalMessagesDelivered, !continueAllowed);
     }
 
+    /**
+     * Waits for the page to be read, rethrowing the unchecked failures as-is.
+     */
+    private static Optional<Page<InboxMessage>>
+    await(CompletableFuture<Optional<Page<InboxMessage>>> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
     /**
      * Launches the conveyor, running it through the passed stations and processing the messages
      * in the specified shard.
@@ -593,6 +655,9 @@ public final class Delivery implements Logging {
      */
     @Internal
     public MulticastDispatchListener dispatchListener() {
+        if (batchingWriter != null) {
+            return batchingWriter;
+        }
         return dispatchListener;
     }
 
@@ -655,6 +720,9 @@ public final class Delivery implements Logging {
     }
 
     private InboxWriter inboxWriter() {
+        if (batchingWriter != null) {
+            return batchingWriter;
+        }
         return new NotifyingWriter(inboxStorage) {
 
             @Override
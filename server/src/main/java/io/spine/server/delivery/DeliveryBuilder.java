@@ -57,6 +57,7 @@ public final class DeliveryBuilder {
     private @MonotonicNonNull DeliveryMonitor deliveryMonitor;
     private @MonotonicNonNull Integer pageSize;
     private @MonotonicNonNull Integer catchUpPageSize;
+    private boolean batchInboxWrites;
 
     /**
      * Prevents a direct instantiation of this class.
@@ -175,6 +176,14 @@ public final class DeliveryBuilder {
         return checkNotNull(catchUpPageSize);
     }
 
+    /**
+     * Tells whether the {@code Inbox} messages produced by a single signal are written
+     * to the {@code InboxStorage} in a batch.
+     */
+    public boolean batchInboxWrites() {
+        return batchInboxWrites;
+    }
+
     @CanIgnoreReturnValue
     public DeliveryBuilder setWorkRegistry(ShardedWorkRegistry workRegistry) {
         this.workRegistry = checkNotNull(workRegistry);
@@ -271,6 +280,23 @@ public final class DeliveryBuilder {
         return this;
     }
 
+    /**
+     * Sets whether the {@code Inbox} messages produced while dispatching a single signal
+     * to its multicast targets should be written to the {@code InboxStorage} in a batch.
+     *
+     * <p>If enabled, such messages are written via a single call to
+     * {@link InboxStorage#writeAll(Iterable)} once the signal is dispatched to all of its targets.
+     * The shard observers are then notified once per each updated shard. This is helpful for
+     * the storages performing a round trip per each call.
+     *
+     * <p>If none set, each message is written separately.
+     */
+    @CanIgnoreReturnValue
+    public DeliveryBuilder setBatchInboxWrites(boolean batchInboxWrites) {
+        this.batchInboxWrites = batchInboxWrites;
+        return this;
+    }
+
     @SuppressWarnings("PMD.NPathComplexity")    // The readability of this method is fine.
     public Delivery build() {
         if (strategy == null) {
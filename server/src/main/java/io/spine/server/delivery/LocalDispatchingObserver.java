@@ -21,9 +21,24 @@
 package io.spine.server.delivery;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.spine.core.TenantId;
+import io.spine.logging.Logging;
 import io.spine.server.ServerEnvironment;
 import io.spine.server.tenant.TenantAwareRunner;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Maps.newConcurrentMap;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 
 /**
  * An observer of changes to the shard contents, which triggers immediate delivery of the
@@ -32,22 +47,59 @@ import io.spine.server.tenant.TenantAwareRunner;
  * <p>Depending on the configuration, the delivery may be triggered either synchronously
  * or asynchronously.
  *
+ * <p>In the asynchronous mode, the delivery is performed by the configured {@link Executor}.
+ * The notifications are coalesced per tenant and shard: at most one delivery from a particular
+ * shard is in progress at a time. If more messages arrive to the shard during the delivery,
+ * the shard is delivered once again as soon as the current delivery completes.
+ *
+ * <p>Observers created without an explicit executor share a single pool of daemon threads,
+ * so creating many of them does not multiply the number of threads.
+ *
  * <p>Suitable for the local and development environment.
  */
 @VisibleForTesting
-public final class LocalDispatchingObserver implements ShardObserver {
+public final class LocalDispatchingObserver implements ShardObserver, Logging {
+
+    private final @Nullable Executor executor;
+
+    /**
+     * Delivers the messages from the given shard in the context of the current tenant.
+     */
+    private final Consumer<ShardIndex> delivery;
 
-    private final boolean async;
+    /**
+     * The shards, which delivery is currently in progress.
+     *
+     * <p>The value tells whether the shard should be delivered once again, as some messages
+     * arrived to it during the delivery.
+     */
+    private final Map<TenantShard, Boolean> inProgress = newConcurrentMap();
 
     /**
-     * Creates a new observer performing the delivery in either synchronous manner or in
-     * a new {@code Thread} for each received {@code InboxMessage}.
+     * Creates a new observer performing the delivery in either synchronous manner or with
+     * a shared pool of daemon threads, one per available processor.
      *
      * @param asynchronous
      *         whether the delivery should be performed synchronously
      */
     LocalDispatchingObserver(boolean asynchronous) {
-        this.async = asynchronous;
+        this(asynchronous ? SharedExecutor.INSTANCE : null,
+             LocalDispatchingObserver::deliverFromCurrent);
+    }
+
+    /**
+     * Creates a new observer which delivers the messages with the given function.
+     *
+     * @param executor
+     *         the executor to run the delivery from shards,
+     *         or {@code null} to deliver synchronously
+     * @param delivery
+     *         the function delivering the messages from a shard
+     */
+    @VisibleForTesting
+    LocalDispatchingObserver(@Nullable Executor executor, Consumer<ShardIndex> delivery) {
+        this.executor = executor;
+        this.delivery = checkNotNull(delivery);
     }
 
     /**
@@ -57,22 +109,80 @@ public final class LocalDispatchingObserver implements ShardObserver {
         this(false);
     }
 
+    /**
+     * Creates a new observer instance which performs the delivery with the given executor.
+     *
+     * @param executor
+     *         the executor to run the delivery from shards
+     */
+    public LocalDispatchingObserver(Executor executor) {
+        this(checkNotNull(executor), LocalDispatchingObserver::deliverFromCurrent);
+    }
+
+    private static void deliverFromCurrent(ShardIndex index) {
+        ServerEnvironment.instance()
+                         .delivery()
+                         .deliverMessagesFrom(index);
+    }
+
     @Override
     public void onMessage(InboxMessage update) {
-        Delivery delivery = ServerEnvironment.instance()
-                                             .delivery();
-        ShardIndex index = update.shardIndex();
-        if (async) {
-            new Thread(() -> runDelivery(update, delivery, index)).start();
+        TenantShard shard = new TenantShard(update.tenant(), update.shardIndex());
+        if (executor != null) {
+            schedule(shard, executor);
         } else {
-            runDelivery(update, delivery, index);
+            runDelivery(shard);
         }
     }
 
-    private static void runDelivery(InboxMessage message, Delivery delivery, ShardIndex index) {
-        TenantId tenant = message.tenant();
-        TenantAwareRunner.with(tenant)
-                         .run(() -> delivery.deliverMessagesFrom(index));
+    /**
+     * Schedules the delivery from the shard, unless it is already in progress.
+     *
+     * <p>If the delivery is in progress, marks the shard to be delivered once again.
+     *
+     * <p>If the executor rejects the delivery, the shard is released, so that the next
+     * message arriving to it triggers the delivery again.
+     */
+    private void schedule(TenantShard shard, Executor executor) {
+        AtomicBoolean started = new AtomicBoolean(false);
+        inProgress.compute(shard, (s, deliverAgain) -> {
+            if (deliverAgain == null) {
+                started.set(true);
+                return false;
+            }
+            return true;
+        });
+        if (started.get()) {
+            try {
+                executor.execute(() -> deliverUntilDone(shard));
+            } catch (RejectedExecutionException e) {
+                inProgress.remove(shard);
+                throw e;
+            }
+        }
+    }
+
+    @SuppressWarnings("OverlyBroadCatchBlock") // The delivery must go on for other messages.
+    private void deliverUntilDone(TenantShard shard) {
+        boolean deliverAgain = true;
+        while (deliverAgain) {
+            try {
+                runDelivery(shard);
+            } catch (RuntimeException e) {
+                _error().withCause(e)
+                        .log("Error delivering messages from the shard %d.",
+                             shard.index.getIndex());
+            }
+            Boolean rescheduled = inProgress.computeIfPresent(
+                    shard, (s, again) -> again ? Boolean.FALSE : null
+            );
+            deliverAgain = rescheduled != null;
+        }
+    }
+
+    private void runDelivery(TenantShard shard) {
+        TenantAwareRunner.with(shard.tenant)
+                         .run(() -> delivery.accept(shard.index));
     }
 
     /**
@@ -80,6 +190,59 @@ public final class LocalDispatchingObserver implements ShardObserver {
      */
     @VisibleForTesting
     boolean isAsync() {
-        return async;
+        return executor != null;
+    }
+
+    /**
+     * Holds the executor shared by the asynchronous observers created without
+     * an explicit executor.
+     *
+     * <p>The executor is created upon the first access. Its threads are daemons, so it
+     * does not prevent the JVM from shutting down.
+     */
+    private static final class SharedExecutor {
+
+        private static final Executor INSTANCE = newExecutor();
+
+        private static Executor newExecutor() {
+            ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                    .setDaemon(true)
+                    .setNameFormat("local-delivery-%d")
+                    .build();
+            int threads = Runtime.getRuntime()
+                                 .availableProcessors();
+            return newFixedThreadPool(threads, threadFactory);
+        }
+    }
+
+    /**
+     * A shard of a particular tenant.
+     */
+    private static final class TenantShard {
+
+        private final TenantId tenant;
+        private final ShardIndex index;
+
+        private TenantShard(TenantId tenant, ShardIndex index) {
+            this.tenant = tenant;
+            this.index = index;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TenantShard other = (TenantShard) o;
+            return tenant.equals(other.tenant) && index.equals(other.index);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tenant, index);
+        }
     }
 }
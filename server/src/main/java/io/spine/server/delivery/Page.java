@@ -24,6 +24,7 @@ import com.google.common.collect.ImmutableList;
 import io.spine.annotation.SPI;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A page of messages obtained from a sharded storage in a read operation.
@@ -55,4 +56,25 @@ public interface Page<M extends ShardedRecord> {
      *         this page is the last one
      */
     Optional<Page<M>> next();
+
+    /**
+     * Starts obtaining the next page.
+     *
+     * <p>The {@code Delivery} calls this method before dispatching the contents of the current
+     * page, and awaits for the result only when the current page is processed. Storage
+     * implementations, for which reading a page implies an I/O, may override this method
+     * to read the next page in background, thus overlapping the I/O with the dispatching.
+     *
+     * <p>The resulting page must contain the same messages as {@link #next()} would have
+     * returned at the moment of this call. It is not affected by the changes made to the messages
+     * of the current page afterwards.
+     *
+     * <p>By default, reads the next page synchronously.
+     *
+     * @return the future of the next page, completed with {@code Optional.empty()} if
+     *         this page is the last one
+     */
+    default CompletableFuture<Optional<Page<M>>> nextAsync() {
+        return CompletableFuture.completedFuture(next());
+    }
 }
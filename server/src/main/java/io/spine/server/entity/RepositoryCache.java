@@ -20,17 +20,29 @@
 
 package io.spine.server.entity;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Striped;
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
 import io.spine.annotation.Internal;
+import io.spine.core.Version;
 import io.spine.logging.Logging;
 import io.spine.server.tenant.IdInTenant;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 /**
  * The cache of {@code Entity} objects for a certain {@code Repository} and
  * {@linkplain #startCaching(Object) selected} identifiers.
@@ -61,6 +73,19 @@ import java.util.function.Function;
  * <p>The users of this class should keep the number of the simultaneously cached entities
  * reasonable due to a potentially huge significant memory footprint.
  *
+ * <p>The operations on the same entity are mutually exclusive. The operations on different
+ * entities are performed concurrently, unless the entity identifiers fall into the same
+ * lock stripe.
+ *
+ * <p>Optionally, the cache may {@linkplain Retention retain} the entities between the batches.
+ * In this mode, a copy of an entity flushed by {@code stopCaching(entityId)} is kept in memory,
+ * so that the next batch for the same entity is served without restoring it from the storage.
+ * The retained copy is handed out to a single batch only, so the instances are never shared
+ * between the batches. Before handing out the copy, its version is compared to the version of
+ * the stored entity. If the entity was changed in the storage in between, e.g. by another node
+ * after the shard handoff, the retained copy is discarded and the entity is loaded anew.
+ * The retained entities are bounded in number and evicted after a period of inactivity.
+ *
  * @param <I>
  *         the type of {@code Entity} identifiers
  * @param <E>
@@ -69,12 +94,21 @@ import java.util.function.Function;
 @Internal
 public final class RepositoryCache<I, E extends Entity<I, ?>> implements Logging {
 
-    private final Map<IdInTenant<I>, E> cache = new HashMap<>();
-    private final Set<IdInTenant<I>> idsToCache = new HashSet<>();
+    /**
+     * The number of locks guarding the operations on the entities.
+     */
+    private static final int LOCK_STRIPES = 64;
+
+    private final Map<IdInTenant<I>, E> cache = new ConcurrentHashMap<>();
+    private final Set<IdInTenant<I>> idsToCache = ConcurrentHashMap.newKeySet();
+    private final Striped<Lock> locks = Striped.lock(LOCK_STRIPES);
 
     private final boolean multitenant;
     private final Load<I, E> loadFn;
     private final Store<E> storeFn;
+    private final @Nullable Cache<IdInTenant<I>, E> retained;
+    private final @Nullable Copy<E> copyFn;
+    private final @Nullable StoredVersion<I> versionFn;
 
     /**
      * Creates the instance of the cache considering the multi-tenancy setting,
@@ -84,6 +118,45 @@ public final class RepositoryCache<I, E extends Entity<I, ?>> implements Logging
         this.multitenant = multitenant;
         this.loadFn = loadFn;
         this.storeFn = storeFn;
+        this.retained = null;
+        this.copyFn = null;
+        this.versionFn = null;
+    }
+
+    /**
+     * Creates the instance of the cache which retains the entities between the batches
+     * according to the passed policy.
+     *
+     * @param multitenant
+     *         whether the entities are multi-tenant
+     * @param loadFn
+     *         the function to load the entities
+     * @param storeFn
+     *         the function to store the entities
+     * @param retention
+     *         the policy of retaining the entities
+     * @param copyFn
+     *         the function creating an independent copy of an entity
+     * @param versionFn
+     *         the function reading the version of the stored entity
+     */
+    public RepositoryCache(boolean multitenant,
+                           Load<I, E> loadFn,
+                           Store<E> storeFn,
+                           Retention retention,
+                           Copy<E> copyFn,
+                           StoredVersion<I> versionFn) {
+        checkNotNull(retention);
+        this.multitenant = multitenant;
+        this.loadFn = loadFn;
+        this.storeFn = storeFn;
+        this.copyFn = checkNotNull(copyFn);
+        this.versionFn = checkNotNull(versionFn);
+        this.retained = CacheBuilder.newBuilder()
+                                    .maximumSize(retention.maximumSize)
+                                    .expireAfterAccess(retention.expireAfterAccessMillis,
+                                                       MILLISECONDS)
+                                    .build();
     }
 
     /**
@@ -96,18 +169,57 @@ public final class RepositoryCache<I, E extends Entity<I, ?>> implements Logging
      *         the identifier of the entity to load
      * @return loaded entity
      */
-    public synchronized E load(I id) {
+    public E load(I id) {
         IdInTenant<I> idInTenant = idInTenant(id);
-        if (!idsToCache.contains(idInTenant)) {
-            return loadFn.apply(idInTenant.value());
-        }
-
-        if (!cache.containsKey(idInTenant)) {
-            E entity = loadFn.apply(idInTenant.value());
+        Lock lock = lock(idInTenant);
+        try {
+            if (!idsToCache.contains(idInTenant)) {
+                return loadFn.apply(idInTenant.value());
+            }
+            E cached = cache.get(idInTenant);
+            if (cached != null) {
+                return cached;
+            }
+            E entity = retainedOrLoad(idInTenant);
             cache.put(idInTenant, entity);
             return entity;
+        } finally {
+            lock.unlock();
         }
-        return cache.get(idInTenant);
+    }
+
+    /**
+     * Takes the entity from the retained ones, or loads it if the entity is not retained.
+     *
+     * <p>The retained entity is removed from the retained ones, so that it is handed out to
+     * a single batch only. Its copy is retained once the batch is
+     * {@linkplain #stopCaching(Object) over}.
+     *
+     * <p>If the version of the retained entity differs from the version of the stored one,
+     * the entity is loaded from the storage.
+     */
+    private E retainedOrLoad(IdInTenant<I> idInTenant) {
+        I id = idInTenant.value();
+        if (retained != null) {
+            E entity = retained.getIfPresent(idInTenant);
+            if (entity != null) {
+                retained.invalidate(idInTenant);
+                if (isUpToDate(entity)) {
+                    return entity;
+                }
+            }
+        }
+        return loadFn.apply(id);
+    }
+
+    private boolean isUpToDate(E retainedEntity) {
+        checkNotNull(versionFn);
+        int retainedVersion = retainedEntity.version()
+                                            .getNumber();
+        Optional<Version> storedVersion = versionFn.apply(retainedEntity.id());
+        return storedVersion.isPresent()
+                && storedVersion.get()
+                                .getNumber() == retainedVersion;
     }
 
     /**
@@ -120,8 +232,14 @@ public final class RepositoryCache<I, E extends Entity<I, ?>> implements Logging
      * @param id
      *         an identifier of the entity to cache
      */
-    public synchronized void startCaching(I id) {
-        idsToCache.add(idInTenant(id));
+    public void startCaching(I id) {
+        IdInTenant<I> idInTenant = idInTenant(id);
+        Lock lock = lock(idInTenant);
+        try {
+            idsToCache.add(idInTenant);
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -135,26 +253,46 @@ public final class RepositoryCache<I, E extends Entity<I, ?>> implements Logging
      * @param id
      *         an identifier of the entity to cache
      */
-    public synchronized void stopCaching(I id) {
+    public void stopCaching(I id) {
         IdInTenant<I> idInTenant = idInTenant(id);
-        E entity = cache.get(idInTenant);
-        if (entity == null) {
-            _warn().log("Cannot find the cached entity in the cache for ID `%s`. " +
-                                "Cache keys: %s. IDs to cache: %s." +
-                                "Most likely, the entity was dispatched with messages " +
-                                "but was never loaded by its repository.",
-                        idInTenant, cache.keySet(), idsToCache);
-            return;
+        Lock lock = lock(idInTenant);
+        try {
+            E entity = cache.get(idInTenant);
+            if (entity == null) {
+                _warn().log("Cannot find the cached entity in the cache for ID `%s`. " +
+                                    "Cache keys: %s. IDs to cache: %s." +
+                                    "Most likely, the entity was dispatched with messages " +
+                                    "but was never loaded by its repository.",
+                            idInTenant, cache.keySet(), idsToCache);
+                return;
+            }
+            storeFn.accept(entity);
+            cache.remove(idInTenant);
+            idsToCache.remove(idInTenant);
+            if (retained != null) {
+                checkNotNull(copyFn);
+                retained.put(idInTenant, copyFn.apply(entity));
+            }
+        } finally {
+            lock.unlock();
         }
-        storeFn.accept(entity);
-        cache.remove(idInTenant);
-        idsToCache.remove(idInTenant);
     }
 
     private IdInTenant<I> idInTenant(I id) {
         return IdInTenant.of(id, multitenant);
     }
 
+    /**
+     * Acquires the lock guarding the operations on the entity with the passed identifier.
+     *
+     * @return the acquired lock, which must be released by the caller
+     */
+    private Lock lock(IdInTenant<I> idInTenant) {
+        Lock lock = locks.get(idInTenant);
+        lock.lock();
+        return lock;
+    }
+
     /**
      * Stores the entity.
      *
@@ -166,16 +304,83 @@ public final class RepositoryCache<I, E extends Entity<I, ?>> implements Logging
      * underlying storage when {@linkplain #stopCaching(Object) stopCaching(entityId)} method is
      * called.
      *
+     * <p>If the entity is stored directly, and its version differs from the version of
+     * the retained copy, the retained copy is discarded.
+     *
      * @param entity
      *         the entity to store
      */
-    public synchronized void store(E entity) {
+    public void store(E entity) {
         I id = entity.id();
         IdInTenant<I> idInTenant = idInTenant(id);
-        if (idsToCache.contains(idInTenant)) {
-            cache.put(idInTenant, entity);
-        } else {
-            storeFn.accept(entity);
+        Lock lock = lock(idInTenant);
+        try {
+            if (idsToCache.contains(idInTenant)) {
+                cache.put(idInTenant, entity);
+            } else {
+                storeFn.accept(entity);
+                invalidateIfStale(idInTenant, entity);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void invalidateIfStale(IdInTenant<I> idInTenant, E stored) {
+        if (retained == null) {
+            return;
+        }
+        E entity = retained.getIfPresent(idInTenant);
+        if (entity != null && entity.version()
+                                    .getNumber() != stored.version()
+                                                          .getNumber()) {
+            retained.invalidate(idInTenant);
+        }
+    }
+
+    /**
+     * Discards the retained copy of the entity with the passed identifier, if any.
+     *
+     * <p>The next batch for this entity loads it from the storage.
+     *
+     * @param id
+     *         the identifier of the entity
+     */
+    public void invalidate(I id) {
+        if (retained != null) {
+            retained.invalidate(idInTenant(id));
+        }
+    }
+
+    /**
+     * The policy of retaining the entities in the cache between the batches.
+     */
+    public static final class Retention {
+
+        private final long maximumSize;
+        private final long expireAfterAccessMillis;
+
+        private Retention(long maximumSize, long expireAfterAccessMillis) {
+            this.maximumSize = maximumSize;
+            this.expireAfterAccessMillis = expireAfterAccessMillis;
+        }
+
+        /**
+         * Creates a new retention policy.
+         *
+         * @param maximumSize
+         *         the positive maximum number of the retained entities; once exceeded,
+         *         the least recently used entities are discarded
+         * @param expireAfterAccess
+         *         the positive duration after which an entity which was not accessed
+         *         is discarded
+         */
+        public static Retention of(long maximumSize, Duration expireAfterAccess) {
+            checkArgument(maximumSize > 0, "The maximum size must be positive.");
+            checkNotNull(expireAfterAccess);
+            long millis = Durations.toMillis(expireAfterAccess);
+            checkArgument(millis > 0, "The expiration duration must be positive.");
+            return new Retention(maximumSize, millis);
         }
     }
 
@@ -192,6 +397,31 @@ public final class RepositoryCache<I, E extends Entity<I, ?>> implements Logging
 
     }
 
+    /**
+     * A function which creates a copy of the {@code Entity}, which shares no mutable data
+     * with the original.
+     *
+     * @param <E>
+     *         the type of entity
+     */
+    @FunctionalInterface
+    public interface Copy<E extends Entity> extends Function<E, E> {
+
+    }
+
+    /**
+     * A function which reads the version of the {@code Entity} from its real storage.
+     *
+     * <p>Returns {@code Optional.empty()} if the entity is not stored.
+     *
+     * @param <I>
+     *         the type of {@code Entity} identifiers
+     */
+    @FunctionalInterface
+    public interface StoredVersion<I> extends Function<I, Optional<Version>> {
+
+    }
+
     /**
      * A function which stores the {@code Entity} to its real repository.
      *
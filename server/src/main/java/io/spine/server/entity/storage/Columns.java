@@ -24,6 +24,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.errorprone.annotations.Immutable;
 import io.spine.annotation.Internal;
+import io.spine.base.EntityState;
 import io.spine.server.entity.Entity;
 import io.spine.server.entity.Transaction;
 import io.spine.server.entity.model.EntityClass;
@@ -60,6 +61,16 @@ public final class Columns {
      */
     private final ImmutableMap<ColumnName, InterfaceBasedColumn> interfaceBasedColumns;
 
+    /**
+     * All the columns of the entity.
+     */
+    private final ImmutableList<Column> columnList;
+
+    /**
+     * The positions of the columns in the {@link #columnList}.
+     */
+    private final ImmutableMap<ColumnName, Integer> positions;
+
     private final EntityClass<?> entityClass;
 
     private Columns(
@@ -71,6 +82,17 @@ public final class Columns {
         this.simpleColumns = simpleColumns;
         this.interfaceBasedColumns = interfaceBasedColumns;
         this.entityClass = entityClass;
+        this.columnList = ImmutableList.<Column>builder()
+                .addAll(systemColumns.values())
+                .addAll(simpleColumns.values())
+                .addAll(interfaceBasedColumns.values())
+                .build();
+        Map<ColumnName, Integer> positions = new HashMap<>();
+        for (int i = 0; i < columnList.size(); i++) {
+            positions.put(columnList.get(i)
+                                    .name(), i);
+        }
+        this.positions = ImmutableMap.copyOf(positions);
     }
 
     /**
@@ -134,28 +156,48 @@ public final class Columns {
      */
     public Map<ColumnName, @Nullable Object> valuesIn(Entity<?, ?> source) {
         checkNotNull(source);
-        Map<ColumnName, @Nullable Object> result = new HashMap<>();
-        systemColumns.forEach(
-                (name, column) -> result.put(name, column.valueIn(source))
-        );
-        simpleColumns.forEach(
-                (name, column) -> result.put(name, column.valueIn(source.state()))
-        );
-        interfaceBasedColumns.forEach(
-                (name, column) -> result.put(name, column.valueIn(source.state()))
-        );
+        @Nullable Object[] values = valueArrayIn(source);
+        Map<ColumnName, @Nullable Object> result = new HashMap<>(values.length);
+        positions.forEach((name, position) -> result.put(name, values[position]));
         return result;
     }
 
+    /**
+     * Extracts column values from the entity into an array addressed by
+     * the {@linkplain #positions() positions} of the columns.
+     *
+     * @see #valuesIn(Entity)
+     */
+    @Nullable Object[] valueArrayIn(Entity<?, ?> source) {
+        checkNotNull(source);
+        @Nullable Object[] result = new Object[columnList.size()];
+        int position = 0;
+        for (SysColumn column : systemColumns.values()) {
+            result[position++] = column.valueIn(source);
+        }
+        EntityState state = source.state();
+        for (SimpleColumn column : simpleColumns.values()) {
+            result[position++] = column.valueIn(state);
+        }
+        for (InterfaceBasedColumn column : interfaceBasedColumns.values()) {
+            result[position++] = column.valueIn(state);
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the positions of the column values in the arrays returned by
+     * {@link #valueArrayIn(Entity)}.
+     */
+    ImmutableMap<ColumnName, Integer> positions() {
+        return positions;
+    }
+
     /**
      * Returns all columns of the entity.
      */
     public ImmutableList<Column> columnList() {
-        ImmutableList.Builder<Column> builder = ImmutableList.builder();
-        builder.addAll(systemColumns.values());
-        builder.addAll(simpleColumns.values());
-        builder.addAll(interfaceBasedColumns.values());
-        return builder.build();
+        return columnList;
     }
 
     /**
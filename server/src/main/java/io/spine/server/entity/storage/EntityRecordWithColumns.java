@@ -20,7 +20,7 @@
 
 package io.spine.server.entity.storage;
 
-import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import io.spine.server.entity.Entity;
 import io.spine.server.entity.EntityRecord;
@@ -29,8 +29,6 @@ import io.spine.server.entity.WithLifecycle;
 import io.spine.server.storage.RecordStorage;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -44,16 +42,23 @@ public final class EntityRecordWithColumns implements WithLifecycle {
     private final EntityRecord record;
 
     /**
-     * A map of column names to the corresponding column values.
+     * The positions of the column values in {@link #values} by the names of the columns.
+     *
+     * <p>The records created from the entities of the same class share the same instance.
      */
-    private final Map<ColumnName, @Nullable Object> storageFields;
+    private final ImmutableMap<ColumnName, Integer> positions;
 
-    private final boolean hasStorageFields;
+    /**
+     * The values of the columns addressed by their {@linkplain #positions positions}.
+     */
+    private final @Nullable Object[] values;
 
-    private EntityRecordWithColumns(EntityRecord record, Map<ColumnName, Object> storageFields) {
+    private EntityRecordWithColumns(EntityRecord record,
+                                    ImmutableMap<ColumnName, Integer> positions,
+                                    @Nullable Object[] values) {
         this.record = checkNotNull(record);
-        this.storageFields = new HashMap<>(storageFields);
-        this.hasStorageFields = !storageFields.isEmpty();
+        this.positions = positions;
+        this.values = values;
     }
 
     /**
@@ -63,8 +68,8 @@ public final class EntityRecordWithColumns implements WithLifecycle {
                                                  Entity<?, ?> entity,
                                                  RecordStorage<?> recordStorage) {
         Columns columns = recordStorage.columns();
-        Map<ColumnName, @Nullable Object> storageFields = columns.valuesIn(entity);
-        return of(record, storageFields);
+        @Nullable Object[] values = columns.valueArrayIn(entity);
+        return new EntityRecordWithColumns(record, columns.positions(), values);
     }
 
     /**
@@ -73,16 +78,24 @@ public final class EntityRecordWithColumns implements WithLifecycle {
      * <p>Such instance of {@code EntityRecordWithColumns} will contain no storage fields.
      */
     public static EntityRecordWithColumns of(EntityRecord record) {
-        return new EntityRecordWithColumns(record, Collections.emptyMap());
+        return new EntityRecordWithColumns(record, ImmutableMap.of(), new Object[0]);
     }
 
     /**
      * Creates a new instance from the passed record and storage fields.
      */
-    @VisibleForTesting
     public static EntityRecordWithColumns
     of(EntityRecord record, Map<ColumnName, Object> storageFields) {
-        return new EntityRecordWithColumns(record, storageFields);
+        checkNotNull(storageFields);
+        ImmutableMap.Builder<ColumnName, Integer> positions = ImmutableMap.builder();
+        @Nullable Object[] values = new Object[storageFields.size()];
+        int position = 0;
+        for (Map.Entry<ColumnName, Object> field : storageFields.entrySet()) {
+            positions.put(field.getKey(), position);
+            values[position] = field.getValue();
+            position++;
+        }
+        return new EntityRecordWithColumns(record, positions.build(), values);
     }
 
     /**
@@ -98,7 +111,7 @@ public final class EntityRecordWithColumns implements WithLifecycle {
      * @return the storage field names
      */
     public ImmutableSet<ColumnName> columnNames() {
-        return ImmutableSet.copyOf(storageFields.keySet());
+        return positions.keySet();
     }
 
     /**
@@ -130,11 +143,12 @@ public final class EntityRecordWithColumns implements WithLifecycle {
     public <R> R columnValue(ColumnName columnName, ColumnMapping<R> columnMapping) {
         checkNotNull(columnName);
         checkNotNull(columnMapping);
-        if (!storageFields.containsKey(columnName)) {
+        Integer position = positions.get(columnName);
+        if (position == null) {
             throw newIllegalStateException("Column with the name `%s` was not found.",
                                            columnName);
         }
-        Object columnValue = storageFields.get(columnName);
+        Object columnValue = values[position];
         if (columnValue == null) {
             R result = columnMapping.ofNull()
                                     .apply(null);
@@ -155,7 +169,7 @@ public final class EntityRecordWithColumns implements WithLifecycle {
      *  {@code false} otherwise
      */
     public boolean hasColumns() {
-        return hasStorageFields;
+        return !positions.isEmpty();
     }
 
     /**
@@ -163,7 +177,7 @@ public final class EntityRecordWithColumns implements WithLifecycle {
      */
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
     public boolean hasColumn(ColumnName name) {
-        boolean result = storageFields.containsKey(name);
+        boolean result = positions.containsKey(name);
         return result;
     }
 
@@ -20,6 +20,7 @@
 
 package io.spine.server.entity.storage;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import io.spine.base.EntityWithColumns;
 import io.spine.code.proto.FieldDeclaration;
@@ -27,20 +28,30 @@ import io.spine.server.entity.model.EntityClass;
 import io.spine.server.entity.storage.InterfaceBasedColumn.GetterFromEntity;
 import io.spine.server.entity.storage.InterfaceBasedColumn.GetterFromState;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.code.proto.ColumnOption.columnsOf;
 import static io.spine.reflect.Invokables.asHandle;
 import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.lang.invoke.MethodType.methodType;
 
 /**
  * An extractor of entity columns.
  */
 final class Scanner {
 
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
     /**
      * The target entity class.
      */
@@ -84,8 +95,8 @@ final class Scanner {
     private static void addSystemColumn(Method method,
                                         ImmutableMap.Builder<ColumnName, SysColumn> columns) {
         ColumnData data = ColumnData.of(method);
-        MethodHandle handle = asHandle(method);
-        SysColumn.Getter getter = entity -> invoke(handle, entity);
+        Function<Object, Object> accessor = accessor(method);
+        SysColumn.Getter getter = accessor::apply;
         SysColumn column = new SysColumn(data.name, data.type, getter);
         columns.put(column.name(), column);
     }
@@ -110,8 +121,8 @@ final class Scanner {
     private void addSimpleColumn(FieldDeclaration field,
                                  ImmutableMap.Builder<ColumnName, SimpleColumn> columns) {
         ColumnData data = ColumnData.of(field, entityClass);
-        MethodHandle handle = asHandle(data.getter);
-        SimpleColumn.Getter getter = state -> invoke(handle, state);
+        Function<Object, Object> accessor = accessor(data.getter);
+        SimpleColumn.Getter getter = accessor::apply;
         SimpleColumn column = new SimpleColumn(data.name, data.type, getter, field);
         columns.put(column.name(), column);
     }
@@ -137,12 +148,12 @@ final class Scanner {
                                       ImmutableMap.Builder<ColumnName, InterfaceBasedColumn> columns) {
         ColumnData data = ColumnData.of(field, entityClass);
 
-        MethodHandle stateGetterHandle = asHandle(data.getter);
-        GetterFromState getterFromState = state -> invoke(stateGetterHandle, state);
+        Function<Object, Object> fromState = accessor(data.getter);
+        GetterFromState getterFromState = fromState::apply;
 
         Method getter = getterOf(field, entityClass.value());
-        MethodHandle getterHandle = asHandle(getter);
-        GetterFromEntity getterFromEntity = entity -> invoke(getterHandle, entity);
+        Function<Object, Object> fromEntity = accessor(getter);
+        GetterFromEntity getterFromEntity = fromEntity::apply;
 
         InterfaceBasedColumn column = new InterfaceBasedColumn(data.name,
                                                                data.type,
@@ -181,6 +192,83 @@ final class Scanner {
         }
     }
 
+    private static <T> Object call(Function<T, Object> getter, T receiver) {
+        try {
+            return getter.apply(receiver);
+        } catch (RuntimeException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Creates a function which invokes the passed getter on the receiver.
+     *
+     * <p>The getter is {@linkplain #compile(Method) compiled} if possible. Otherwise, it is
+     * invoked via a {@code MethodHandle}. In both cases, the exceptions thrown by the getter
+     * are wrapped into an {@code IllegalStateException}.
+     */
+    @VisibleForTesting
+    static Function<Object, Object> accessor(Method getter) {
+        Optional<Function<Object, Object>> compiled = compile(getter);
+        if (compiled.isPresent()) {
+            Function<Object, Object> function = compiled.get();
+            return receiver -> call(function, receiver);
+        }
+        MethodHandle handle = asHandle(getter);
+        return receiver -> invoke(handle, receiver);
+    }
+
+    /**
+     * Compiles the getter method into a {@link Function} accepting the receiver of the getter.
+     *
+     * <p>Unlike a {@code MethodHandle}, which is invoked with the generic signature, the compiled
+     * getter calls the method directly and can be inlined by the JIT compiler.
+     *
+     * <p>The getter is compiled only if it is accessible from this class. Otherwise,
+     * {@code Optional.empty()} is returned and the getter should be invoked reflectively.
+     */
+    @VisibleForTesting
+    static Optional<Function<Object, Object>> compile(Method getter) {
+        if (!isVisible(getter.getDeclaringClass()) || !isVisible(getter.getReturnType())) {
+            return Optional.empty();
+        }
+        try {
+            MethodHandle handle = LOOKUP.unreflect(getter);
+            CallSite site = LambdaMetafactory.metafactory(
+                    LOOKUP,
+                    "apply",
+                    methodType(Function.class),
+                    methodType(Object.class, Object.class),
+                    handle,
+                    handle.type()
+                          .wrap()
+            );
+            @SuppressWarnings("unchecked") // The function accepts the receiver of the getter.
+            Function<Object, Object> result = (Function<Object, Object>) site.getTarget()
+                                                                             .invoke();
+            return Optional.of(result);
+        } catch (IllegalAccessException | LambdaConversionException e) {
+            return Optional.empty();
+        } catch (Throwable throwable) {
+            throw illegalStateWithCauseOf(throwable);
+        }
+    }
+
+    /**
+     * Tells if the passed class can be referenced by the code loaded along with this class.
+     */
+    private static boolean isVisible(Class<?> cls) {
+        if (cls.isPrimitive()) {
+            return true;
+        }
+        try {
+            Class<?> loaded = Class.forName(cls.getName(), false, Scanner.class.getClassLoader());
+            return loaded == cls;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     /**
      * The basic column data needed to create an entity {@link Column} instance.
      */
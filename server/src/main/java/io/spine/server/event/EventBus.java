@@ -46,6 +46,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -121,10 +122,17 @@ public final class EventBus
      */
     private final @Nullable EventEnricher enricher;
 
+    /**
+     * The executor for calling the dispatchers of an event concurrently, or {@code null}
+     * if the dispatchers are called one by one.
+     */
+    private final @Nullable Executor dispatchExecutor;
+
     /** Creates new instance by the passed builder. */
     private EventBus(Builder builder) {
         super(builder);
         this.enricher = builder.enricher;
+        this.dispatchExecutor = builder.dispatchExecutor;
         this.observer = checkNotNull(builder.observer);
         this.deadMessageHandler = new DeadEventTap(this::eventStore);
     }
@@ -238,7 +246,9 @@ public final class EventBus
     @Override
     protected void dispatch(EventEnvelope event) {
         EventEnvelope enrichedEnvelope = enrich(event);
-        int dispatchersCalled = callDispatchers(enrichedEnvelope);
+        int dispatchersCalled = dispatchExecutor == null
+                                ? callDispatchers(enrichedEnvelope)
+                                : callDispatchersConcurrently(enrichedEnvelope, dispatchExecutor);
         checkState(dispatchersCalled != 0,
                    format("Message of type `%s` and ID `%s` has no dispatchers.",
                           event.messageClass(),
@@ -297,6 +307,9 @@ public final class EventBus
         /** The observer for {@link #post(Signal, StreamObserver)} operations. */
         private @Nullable StreamObserver<Ack> observer;
 
+        /** The executor for calling the dispatchers of an event concurrently. */
+        private @Nullable Executor dispatchExecutor;
+
         /** Prevents direct instantiation. */
         private Builder() {
             super();
@@ -341,6 +354,31 @@ public final class EventBus
             return Optional.ofNullable(observer);
         }
 
+        /**
+         * Makes the bus call the dispatchers of an event concurrently, using the passed executor.
+         *
+         * <p>By default, the dispatchers of an event are called one by one on the thread
+         * which posts the event. With the executor set, the posting takes as long as
+         * the slowest of the dispatchers, rather than all of them together. This suits
+         * the contexts where the events are consumed by many independent dispatchers, such as
+         * {@linkplain AbstractEventSubscriber subscribers} performing I/O.
+         *
+         * <p>The posting still returns after all the dispatchers complete. Therefore, each
+         * dispatcher receives the events posted from one thread in the order of posting.
+         *
+         * <p>As the dispatchers may post new events while handling an event, the executor should
+         * not limit the number of threads so that all of them wait for each other.
+         */
+        public Builder setDispatchExecutor(Executor executor) {
+            this.dispatchExecutor = checkNotNull(executor);
+            return this;
+        }
+
+        /** Obtains the executor for calling the dispatchers of an event concurrently. */
+        public Optional<Executor> dispatchExecutor() {
+            return Optional.ofNullable(dispatchExecutor);
+        }
+
         /**
          * Builds an instance of {@link EventBus}.
          *
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.event.store;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import com.google.protobuf.Timestamp;
+import io.spine.core.Event;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.server.event.EventComparator.chronological;
+
+/**
+ * An iterator over the events which are already ordered by their timestamps, which
+ * puts the events in the {@linkplain io.spine.server.event.EventComparator#chronological()
+ * chronological} order.
+ *
+ * <p>Only the events sharing the same timestamp are held in memory at a time,
+ * so that the iteration over a long history does not require buffering it as a whole.
+ */
+final class ChronologicalEvents extends AbstractIterator<Event> {
+
+    private final PeekingIterator<Event> source;
+    private final List<Event> sameTime = new ArrayList<>();
+    private Iterator<Event> current = Iterators.emptyIterator();
+
+    /**
+     * Creates a new iterator.
+     *
+     * @param source
+     *         the events sorted by their timestamps in the ascending order
+     */
+    ChronologicalEvents(Iterator<Event> source) {
+        checkNotNull(source);
+        this.source = Iterators.peekingIterator(source);
+    }
+
+    @Override
+    protected @Nullable Event computeNext() {
+        if (current.hasNext()) {
+            return current.next();
+        }
+        if (!source.hasNext()) {
+            return endOfData();
+        }
+        Event first = source.next();
+        Timestamp time = first.timestamp();
+        if (!source.hasNext() || !source.peek()
+                                        .timestamp()
+                                        .equals(time)) {
+            return first;
+        }
+        sameTime.clear();
+        sameTime.add(first);
+        while (source.hasNext() && source.peek()
+                                         .timestamp()
+                                         .equals(time)) {
+            sameTime.add(source.next());
+        }
+        sameTime.sort(chronological());
+        current = sameTime.iterator();
+        return current.next();
+    }
+}
@@ -20,9 +20,8 @@
 package io.spine.server.event.store;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Streams;
-import com.google.common.flogger.FluentLogger;
-import com.google.protobuf.TextFormat;
 import io.grpc.stub.StreamObserver;
 import io.spine.client.OrderBy;
 import io.spine.client.ResponseFormat;
@@ -32,12 +31,18 @@ import io.spine.core.EventId;
 import io.spine.core.TenantId;
 import io.spine.server.BoundedContext;
 import io.spine.server.entity.DefaultRecordBasedRepository;
+import io.spine.server.entity.storage.Column;
+import io.spine.server.entity.storage.ColumnName;
+import io.spine.server.entity.storage.EntityRecordWithColumns;
 import io.spine.server.event.EventStore;
 import io.spine.server.event.EventStreamQuery;
 import io.spine.server.tenant.EventOperation;
 import io.spine.server.tenant.TenantAwareOperation;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -45,8 +50,10 @@ import java.util.function.Predicate;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableList.toImmutableList;
-import static com.google.common.flogger.LazyArgs.lazy;
-import static io.spine.server.event.EventComparator.chronological;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.google.common.collect.Iterators.filter;
+import static com.google.common.collect.Iterators.limit;
+import static com.google.common.collect.Iterators.transform;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -61,14 +68,21 @@ public final class DefaultEventStore
                     System.lineSeparator() +
                     "Observed tenants are: %s.";
 
-    private final Log log;
+    private final EventStoreLog log;
+
+    /**
+     * Tells if the storage has only the columns filled by {@link EEntity#recordOf(Event)}.
+     *
+     * <p>Is {@code null} until the storage is first written.
+     */
+    private volatile @Nullable Boolean eventColumnsOnly;
 
     /**
      * Constructs new instance.
      */
     public DefaultEventStore() {
         super();
-        this.log = new Log();
+        this.log = new EventStoreLog(this);
     }
 
     /**
@@ -127,7 +141,7 @@ public final class DefaultEventStore
         log.stored(events);
     }
 
-    private static void ensureSameTenant(ImmutableList<Event> events) {
+    static void ensureSameTenant(ImmutableList<Event> events) {
         checkNotNull(events);
         Set<TenantId> tenants = events.stream()
                                       .map(Event::tenant)
@@ -143,30 +157,32 @@ public final class DefaultEventStore
         log.readingStart(request, responseObserver);
 
         Iterator<Event> eventRecords = iterator(request);
-        while (eventRecords.hasNext()) {
-            Event event = eventRecords.next();
-            responseObserver.onNext(event);
-        }
-        responseObserver.onCompleted();
-
-        log.readingComplete(responseObserver);
+        FlowControlledStream.send(eventRecords, responseObserver, context().isMultitenant(),
+                                  () -> log.readingComplete(responseObserver));
     }
 
     /**
      * Obtains an iterator over events matching the passed query.
      * The iteration is chronologically sorted.
+     *
+     * <p>The events are requested from the storage ordered by the time of their creation,
+     * and are filtered and passed to the caller one by one, without buffering all of them.
+     *
+     * <p>The {@linkplain EventStreamQuery#getLimit() limit} of the query is applied to
+     * the events matching all the filters of the query. It is not passed to the storage, since
+     * not all the filters are passed to the storage as well.
      */
     private Iterator<Event> iterator(EventStreamQuery query) {
         checkNotNull(query);
         Iterator<EEntity> iterator = find(query);
-        ImmutableList<EEntity> entities = ImmutableList.copyOf(iterator);
         Predicate<Event> predicate = new MatchesStreamQuery(query);
-        Iterator<Event> result = entities
-                .stream()
-                .map(EEntity::state)
-                .filter(predicate)
-                .sorted(chronological())
-                .iterator();
+        Iterator<Event> events = transform(iterator, EEntity::state);
+        Iterator<Event> matching = filter(events, predicate::test);
+        Iterator<Event> result = new ChronologicalEvents(matching);
+        if (query.hasLimit()) {
+            result = limit(result, query.getLimit()
+                                        .getValue());
+        }
         return result;
     }
 
@@ -179,7 +195,7 @@ public final class DefaultEventStore
      * Obtains iteration over entities matching the passed query.
      */
     private Iterator<EEntity> find(EventStreamQuery query) {
-        ResponseFormat format = formatFrom(query);
+        ResponseFormat format = chronologicalFormat();
         if (query.includeAll()) {
             return loadAll(format);
         } else {
@@ -188,62 +204,62 @@ public final class DefaultEventStore
         }
     }
 
-    private static ResponseFormat formatFrom(EventStreamQuery query) {
-        ResponseFormat.Builder formatBuilder = ResponseFormat.newBuilder();
+    private static ResponseFormat chronologicalFormat() {
         OrderBy ascendingByCreated = OrderBy
                 .newBuilder()
                 .setColumn(EEntity.CREATED_COLUMN)
                 .setDirection(OrderBy.Direction.ASCENDING)
                 .vBuild();
-        if (query.hasLimit()) {
-            formatBuilder.setOrderBy(ascendingByCreated)
-                         .setLimit(query.getLimit()
-                                        .getValue());
-        }
-        return formatBuilder.build();
+        ResponseFormat result = ResponseFormat
+                .newBuilder()
+                .setOrderBy(ascendingByCreated)
+                .build();
+        return result;
     }
 
     private void store(Event event) {
-        EEntity entity = EEntity.create(event);
-        store(entity);
+        if (storesEventColumnsOnly()) {
+            recordStorage().write(event.getId(), EEntity.recordOf(event));
+        } else {
+            EEntity entity = EEntity.create(event);
+            store(entity);
+        }
     }
 
     private void store(Iterable<Event> events) {
-        ImmutableList<EEntity> entities =
-                Streams.stream(events)
-                       .map(EEntity::create)
-                       .collect(toImmutableList());
-        store(entities);
+        if (storesEventColumnsOnly()) {
+            Map<EventId, EntityRecordWithColumns> records = new HashMap<>();
+            for (Event event : events) {
+                records.put(event.getId(), EEntity.recordOf(event));
+            }
+            recordStorage().write(records);
+        } else {
+            ImmutableList<EEntity> entities =
+                    Streams.stream(events)
+                           .map(EEntity::create)
+                           .collect(toImmutableList());
+            store(entities);
+        }
     }
 
     /**
-     * Logging for operations of {@link DefaultEventStore}.
+     * Tells if the storage of the events has only the {@linkplain EEntity#COLUMNS columns}
+     * which {@link EEntity#recordOf(Event)} fills.
+     *
+     * <p>If so, the events are stored without creating an entity for each of them.
      */
-    final class Log {
-
-        private final FluentLogger.Api debug = logger().atFine();
-        private final boolean debugEnabled = debug.isEnabled();
-
-        private void stored(Event event) {
-            debug.log("Stored: %s.", lazy(() -> TextFormat.shortDebugString(event)));
-        }
-
-        private void stored(Iterable<Event> events) {
-            if (debugEnabled) {
-                for (Event event : events) {
-                    stored(event);
-                }
-            }
-        }
-
-        private void readingStart(EventStreamQuery query, StreamObserver<Event> observer) {
-            debug.log("Creating stream on request: `%s` for observer: `%s`.",
-                      lazy(() -> TextFormat.shortDebugString(query)),
-                      observer);
-        }
-
-        private void readingComplete(StreamObserver<Event> observer) {
-            debug.log("Observer `%s` got all queried events.", observer);
+    private boolean storesEventColumnsOnly() {
+        Boolean result = eventColumnsOnly;
+        if (result == null) {
+            ImmutableSet<ColumnName> columns =
+                    recordStorage().columns()
+                                   .columnList()
+                                   .stream()
+                                   .map(Column::name)
+                                   .collect(toImmutableSet());
+            result = columns.equals(EEntity.COLUMNS);
+            eventColumnsOnly = result;
         }
+        return result;
     }
 }
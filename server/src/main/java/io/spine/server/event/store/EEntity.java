@@ -20,15 +20,25 @@
 
 package io.spine.server.event.store;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Any;
 import com.google.protobuf.Timestamp;
+import io.spine.base.Identifier;
 import io.spine.core.Event;
 import io.spine.core.EventId;
+import io.spine.core.Versions;
+import io.spine.server.entity.EntityRecord;
 import io.spine.server.entity.Transaction;
 import io.spine.server.entity.TransactionalEntity;
+import io.spine.server.entity.storage.ColumnName;
+import io.spine.server.entity.storage.EntityRecordWithColumns;
 import io.spine.server.entity.storage.SystemColumn;
 import io.spine.type.TypeName;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 
+import static io.spine.protobuf.AnyPacker.pack;
+
 /**
  * An entity for storing an event.
  *
@@ -37,6 +47,16 @@ import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 final class EEntity extends TransactionalEntity<EventId, Event, Event.Builder> {
 
     static final String CREATED_COLUMN = "created";
+
+    private static final ColumnName CREATED = ColumnName.of(EventColumn.created.name());
+    private static final ColumnName TYPE = ColumnName.of(EventColumn.type.name());
+
+    /**
+     * The columns of the entity.
+     */
+    static final ImmutableSet<ColumnName> COLUMNS =
+            ImmutableSet.of(CREATED, TYPE);
+
     /** Cached value of the event message type name. */
     private @MonotonicNonNull TypeName typeName;
 
@@ -49,6 +69,35 @@ final class EEntity extends TransactionalEntity<EventId, Event, Event.Builder> {
         return result;
     }
 
+    /**
+     * Creates a storage record of the passed event stripping its enrichments.
+     *
+     * <p>Unlike {@link #create(Event)}, neither creates an entity nor runs a transaction.
+     * The values of the {@linkplain #COLUMNS columns} are obtained from the event directly.
+     */
+    static EntityRecordWithColumns recordOf(Event event) {
+        Event stripped = event.clearEnrichments();
+        EntityRecord record = EntityRecord
+                .newBuilder()
+                .setEntityId(Identifier.pack(stripped.getId()))
+                .setState(pack(stripped))
+                .setVersion(Versions.zero())
+                .build();
+        ImmutableMap<ColumnName, Object> columns =
+                ImmutableMap.of(CREATED, stripped.context()
+                                                 .getTimestamp(),
+                                TYPE, typeNameOf(stripped.getMessage()));
+        return EntityRecordWithColumns.of(record, columns);
+    }
+
+    /**
+     * Obtains the name of the type of the packed message without unpacking it.
+     */
+    private static String typeNameOf(Any message) {
+        String typeUrl = message.getTypeUrl();
+        return typeUrl.substring(typeUrl.lastIndexOf('/') + 1);
+    }
+
     private EEntity(EventId id) {
         super(id);
     }
@@ -59,7 +108,7 @@ final class EEntity extends TransactionalEntity<EventId, Event, Event.Builder> {
      * <p>This method represents an entity column {@code created}.
      *
      * @return the time when the underlying event was fired
-     * @see ColumnName#created
+     * @see EventColumn#created
      */
     @SystemColumn(name = CREATED_COLUMN)
     public Timestamp getCreated() {
@@ -73,7 +122,7 @@ final class EEntity extends TransactionalEntity<EventId, Event, Event.Builder> {
      * <p>This method represents an entity column {@link TypeName}.
      *
      * @return the {@link TypeName} value of the event represented by this entity
-     * @see ColumnName#type
+     * @see EventColumn#type
      */
     @SystemColumn(name = "type")
     public String getType() {
@@ -23,7 +23,7 @@ package io.spine.server.event.store;
 /**
  * Event-specific column names.
  */
-enum ColumnName {
+enum EventColumn {
 
     /**
      * The name of the entity column representing the time, when the event was fired.
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.event.store;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import com.google.protobuf.Any;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import io.spine.core.Event;
+import io.spine.core.EventId;
+import io.spine.server.event.EventFilter;
+import io.spine.server.event.EventStreamQuery;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Iterators.concat;
+import static com.google.common.collect.Iterators.filter;
+import static com.google.common.collect.Iterators.limit;
+import static com.google.common.collect.Iterators.mergeSorted;
+import static com.google.common.collect.Iterators.transform;
+import static io.spine.server.event.EventComparator.chronological;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An append-only log of the events of a single tenant.
+ *
+ * <p>The events are partitioned by the time of their creation. Besides the log of all events,
+ * the events are indexed by their type and by the ID of their producer. Each index keeps
+ * the events in the chronological order. Thus, a query with time bounds is answered by
+ * a range scan of the most specific index, rather than by the scan of the whole log.
+ *
+ * <p>The log may be read concurrently with appending new events.
+ */
+final class EventLog {
+
+    private final Map<EventId, Event> events = new ConcurrentHashMap<>();
+    private final TimeIndex all = new TimeIndex();
+    private final Map<String, TimeIndex> byType = new ConcurrentHashMap<>();
+    private final Map<Any, TimeIndex> byProducer = new ConcurrentHashMap<>();
+
+    /**
+     * Appends the event to the log.
+     *
+     * <p>If an event with the same ID is already in the log, it is replaced.
+     */
+    synchronized void append(Event event) {
+        checkNotNull(event);
+        Event stripped = event.clearEnrichments();
+        Event previous = events.put(stripped.getId(), stripped);
+        if (previous != null) {
+            all.remove(previous);
+            indexOf(byType, typeOf(previous)).remove(previous);
+            indexOf(byProducer, producerOf(previous)).remove(previous);
+        }
+        all.add(stripped);
+        indexOf(byType, typeOf(stripped)).add(stripped);
+        indexOf(byProducer, producerOf(stripped)).add(stripped);
+    }
+
+    private static <K> TimeIndex indexOf(Map<K, TimeIndex> indexes, K key) {
+        return indexes.computeIfAbsent(key, k -> new TimeIndex());
+    }
+
+    private static String typeOf(Event event) {
+        return event.enclosedTypeUrl()
+                    .toTypeName()
+                    .value();
+    }
+
+    private static Any producerOf(Event event) {
+        return event.context()
+                    .getProducerId();
+    }
+
+    /**
+     * Reads the events matching the query in the chronological order.
+     *
+     * <p>The events are read lazily, as the returned iterator advances.
+     *
+     * <p>As in {@link DefaultEventStore}, the {@linkplain EventStreamQuery#getLimit() limit}
+     * of the query is applied to the events matching all the filters of the query.
+     */
+    Iterator<Event> read(EventStreamQuery query) {
+        checkNotNull(query);
+        @Nullable Timestamp after = query.hasAfter() ? query.getAfter() : null;
+        @Nullable Timestamp before = query.hasBefore() ? query.getBefore() : null;
+        List<Iterator<Event>> ranges =
+                indexesFor(query.getFilterList())
+                        .stream()
+                        .map(index -> index.range(after, before))
+                        .collect(toList());
+        Iterator<Event> events = ranges.size() == 1
+                                 ? ranges.get(0)
+                                 : new Distinct(mergeSorted(ranges, chronological()));
+        Predicate<Event> matchesQuery = new MatchesStreamQuery(query);
+        Iterator<Event> result = filter(events, matchesQuery::test);
+        if (query.hasLimit()) {
+            result = limit(result, query.getLimit()
+                                        .getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Selects the indexes containing all the events matching any of the passed filters.
+     */
+    private List<TimeIndex> indexesFor(List<EventFilter> filters) {
+        if (filters.isEmpty()) {
+            return ImmutableList.of(all);
+        }
+        List<TimeIndex> result = new ArrayList<>();
+        for (EventFilter filter : filters) {
+            String type = filter.getEventType()
+                                .trim();
+            if (!type.isEmpty()) {
+                addIfPresent(byType.get(type), result);
+            } else if (filter.getAggregateIdCount() > 0) {
+                for (Any producer : filter.getAggregateIdList()) {
+                    addIfPresent(byProducer.get(producer), result);
+                }
+            } else {
+                return ImmutableList.of(all);
+            }
+        }
+        return result;
+    }
+
+    private static void addIfPresent(@Nullable TimeIndex index, List<TimeIndex> indexes) {
+        if (index != null) {
+            indexes.add(index);
+        }
+    }
+
+    /**
+     * The events partitioned by their timestamps.
+     *
+     * <p>The events sharing the same timestamp are kept in the chronological order.
+     */
+    private static final class TimeIndex {
+
+        private final NavigableMap<Timestamp, Set<Event>> partitions =
+                new ConcurrentSkipListMap<>(Timestamps.comparator());
+
+        private void add(Event event) {
+            partitions.computeIfAbsent(event.timestamp(),
+                                       t -> new ConcurrentSkipListSet<>(chronological()))
+                      .add(event);
+        }
+
+        private void remove(Event event) {
+            partitions.computeIfPresent(event.timestamp(), (t, partition) -> {
+                partition.remove(event);
+                return partition.isEmpty() ? null : partition;
+            });
+        }
+
+        /**
+         * Obtains the events created strictly between the passed bounds.
+         *
+         * @param after
+         *         the lower bound, or {@code null} if the range is not bounded from below
+         * @param before
+         *         the upper bound, or {@code null} if the range is not bounded from above
+         */
+        private Iterator<Event> range(@Nullable Timestamp after, @Nullable Timestamp before) {
+            NavigableMap<Timestamp, Set<Event>> range = partitions;
+            if (after != null) {
+                range = range.tailMap(after, false);
+            }
+            if (before != null) {
+                range = range.headMap(before, false);
+            }
+            return concat(transform(range.values()
+                                         .iterator(), Set::iterator));
+        }
+    }
+
+    /**
+     * Skips the same events following one another.
+     */
+    private static final class Distinct extends AbstractIterator<Event> {
+
+        private final PeekingIterator<Event> source;
+
+        private Distinct(Iterator<Event> source) {
+            this.source = Iterators.peekingIterator(source);
+        }
+
+        @Override
+        protected @Nullable Event computeNext() {
+            if (!source.hasNext()) {
+                return endOfData();
+            }
+            Event next = source.next();
+            while (source.hasNext() && source.peek()
+                                             .getId()
+                                             .equals(next.getId())) {
+                source.next();
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.event.store;
+
+import com.google.common.flogger.FluentLogger;
+import com.google.protobuf.TextFormat;
+import io.grpc.stub.StreamObserver;
+import io.spine.core.Event;
+import io.spine.logging.Logging;
+import io.spine.server.event.EventStreamQuery;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.flogger.LazyArgs.lazy;
+
+/**
+ * Logging for operations of an {@link io.spine.server.event.EventStore EventStore}.
+ */
+final class EventStoreLog {
+
+    private final FluentLogger.Api debug;
+    private final boolean debugEnabled;
+
+    /**
+     * Creates the log writing to the logger of the passed store.
+     */
+    EventStoreLog(Logging store) {
+        checkNotNull(store);
+        this.debug = store.logger()
+                          .atFine();
+        this.debugEnabled = debug.isEnabled();
+    }
+
+    void stored(Event event) {
+        debug.log("Stored: %s.", lazy(() -> TextFormat.shortDebugString(event)));
+    }
+
+    void stored(Iterable<Event> events) {
+        if (debugEnabled) {
+            for (Event event : events) {
+                stored(event);
+            }
+        }
+    }
+
+    void readingStart(EventStreamQuery query, StreamObserver<Event> observer) {
+        debug.log("Creating stream on request: `%s` for observer: `%s`.",
+                  lazy(() -> TextFormat.shortDebugString(query)),
+                  observer);
+    }
+
+    void readingComplete(StreamObserver<Event> observer) {
+        debug.log("Observer `%s` got all queried events.", observer);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.event.store;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.spine.core.Event;
+import io.spine.logging.Logging;
+import io.spine.server.tenant.TenantAwareRunner;
+
+import java.util.Iterator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Pushes the events to a gRPC server stream only as fast as the client receives them.
+ *
+ * <p>Each time the transport of the stream {@linkplain ServerCallStreamObserver#isReady()
+ * is ready}, the events are sent until it is no longer ready, or the events are over.
+ * Sending continues once the transport becomes ready again. Thus, the events are read
+ * from the storage lazily, and are not accumulated in the outbound buffers.
+ *
+ * <p>The events are read in the context of the tenant which was current when the stream was
+ * created, since the transport may call the stream back from its own threads. If reading
+ * the events fails, the error is passed to the observer and the stream stops.
+ */
+final class FlowControlledStream implements Runnable, Logging {
+
+    private final Iterator<Event> events;
+    private final ServerCallStreamObserver<Event> observer;
+    private final TenantAwareRunner tenant;
+    private final Runnable onCompleted;
+    private boolean done;
+
+    /**
+     * Creates a new stream.
+     *
+     * @param events
+     *         the events to send
+     * @param observer
+     *         the observer of the server stream
+     * @param multitenant
+     *         whether the events are read in a multitenant context
+     * @param onCompleted
+     *         the callback to invoke once all the events are sent
+     */
+    private FlowControlledStream(Iterator<Event> events,
+                                 ServerCallStreamObserver<Event> observer,
+                                 boolean multitenant,
+                                 Runnable onCompleted) {
+        this.events = checkNotNull(events);
+        this.observer = checkNotNull(observer);
+        this.tenant = TenantAwareRunner.withCurrentTenant(multitenant);
+        this.onCompleted = checkNotNull(onCompleted);
+    }
+
+    /**
+     * Sends the events to the passed observer.
+     *
+     * <p>If the observer is a {@link ServerCallStreamObserver}, the events are sent
+     * by a {@code FlowControlledStream}. Otherwise, all the events are sent at once.
+     *
+     * @param events
+     *         the events to send
+     * @param observer
+     *         the observer to receive the events
+     * @param multitenant
+     *         whether the events are read in a multitenant context
+     * @param onCompleted
+     *         the callback to invoke once all the events are sent
+     */
+    static void send(Iterator<Event> events,
+                     StreamObserver<Event> observer,
+                     boolean multitenant,
+                     Runnable onCompleted) {
+        checkNotNull(events);
+        checkNotNull(observer);
+        checkNotNull(onCompleted);
+        if (observer instanceof ServerCallStreamObserver) {
+            ServerCallStreamObserver<Event> serverObserver =
+                    (ServerCallStreamObserver<Event>) observer;
+            new FlowControlledStream(events, serverObserver, multitenant, onCompleted).start();
+            return;
+        }
+        while (events.hasNext()) {
+            observer.onNext(events.next());
+        }
+        observer.onCompleted();
+        onCompleted.run();
+    }
+
+    /**
+     * Starts sending the events.
+     *
+     * <p>Must be called before the method of the gRPC service returns.
+     */
+    private void start() {
+        observer.setOnReadyHandler(this);
+        run();
+    }
+
+    /**
+     * Sends the events while the transport is ready to accept them.
+     */
+    @Override
+    public synchronized void run() {
+        if (done) {
+            return;
+        }
+        if (observer.isCancelled()) {
+            done = true;
+            return;
+        }
+        try {
+            tenant.run(this::send);
+        } catch (RuntimeException e) {
+            done = true;
+            _error().withCause(e)
+                    .log("Error reading the events.");
+            observer.onError(e);
+        }
+    }
+
+    private void send() {
+        while (observer.isReady() && events.hasNext()) {
+            observer.onNext(events.next());
+        }
+        if (!events.hasNext()) {
+            done = true;
+            observer.onCompleted();
+            onCompleted.run();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.event.store;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Streams;
+import io.grpc.stub.StreamObserver;
+import io.spine.core.Event;
+import io.spine.core.TenantId;
+import io.spine.logging.Logging;
+import io.spine.server.BoundedContext;
+import io.spine.server.event.EventStore;
+import io.spine.server.event.EventStreamQuery;
+import io.spine.server.tenant.EventOperation;
+import io.spine.server.tenant.TenantAwareOperation;
+import io.spine.server.tenant.TenantFunction;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.Maps.newConcurrentMap;
+import static io.spine.server.event.store.DefaultEventStore.ensureSameTenant;
+
+/**
+ * An {@link EventStore} which keeps the events in memory.
+ *
+ * <p>The events of each tenant are kept in an {@linkplain EventLog append-only log}, indexed by
+ * the event type and the event producer. A query with time bounds and event types is answered
+ * by scanning the relevant range of the index, instead of matching each stored event.
+ */
+public final class InMemoryEventStore implements EventStore, Logging {
+
+    private final boolean multitenant;
+    private final Map<TenantId, EventLog> logs = newConcurrentMap();
+    private final EventStoreLog log;
+    private volatile boolean registered = false;
+    private volatile boolean open = true;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param multitenant
+     *         whether the events of each tenant should be stored separately
+     */
+    public InMemoryEventStore(boolean multitenant) {
+        this.multitenant = multitenant;
+        this.log = new EventStoreLog(this);
+    }
+
+    @Override
+    public void append(Event event) {
+        checkNotNull(event);
+        TenantAwareOperation op = new EventOperation(event) {
+            @Override
+            public void run() {
+                currentLog().append(event);
+            }
+        };
+        op.execute();
+        log.stored(event);
+    }
+
+    @Override
+    public void appendAll(Iterable<Event> events) {
+        checkNotNull(events);
+        ImmutableList<Event> eventList =
+                Streams.stream(events)
+                       .filter(Objects::nonNull)
+                       .collect(toImmutableList());
+        if (eventList.isEmpty()) {
+            return;
+        }
+        Event event = eventList.get(0);
+        TenantAwareOperation op = new EventOperation(event) {
+            @Override
+            public void run() {
+                if (isTenantSet()) { // If multitenant context
+                    ensureSameTenant(eventList);
+                }
+                EventLog eventLog = currentLog();
+                eventList.forEach(eventLog::append);
+            }
+        };
+        op.execute();
+        log.stored(eventList);
+    }
+
+    @Override
+    public void read(EventStreamQuery request, StreamObserver<Event> responseObserver) {
+        checkNotNull(request);
+        checkNotNull(responseObserver);
+
+        log.readingStart(request, responseObserver);
+
+        Iterator<Event> events = currentLog().read(request);
+        FlowControlledStream.send(events, responseObserver, multitenant,
+                                  () -> log.readingComplete(responseObserver));
+    }
+
+    /**
+     * Obtains the log of the current tenant.
+     */
+    private EventLog currentLog() {
+        TenantFunction<EventLog> func = new TenantFunction<EventLog>(multitenant) {
+            @Override
+            public EventLog apply(@Nullable TenantId tenantId) {
+                checkNotNull(tenantId);
+                return logs.computeIfAbsent(tenantId, id -> new EventLog());
+            }
+        };
+        EventLog result = func.execute();
+        return checkNotNull(result);
+    }
+
+    @Override
+    public void registerWith(BoundedContext context) {
+        this.registered = true;
+    }
+
+    @Override
+    public boolean isRegistered() {
+        return registered;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+        logs.clear();
+    }
+}
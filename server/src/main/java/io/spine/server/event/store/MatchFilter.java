@@ -20,29 +20,33 @@
 
 package io.spine.server.event.store;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.Any;
 import com.google.protobuf.Message;
-import io.spine.base.EventMessage;
 import io.spine.base.Field;
 import io.spine.base.FieldFilter;
 import io.spine.core.Event;
 import io.spine.core.EventContext;
 import io.spine.server.event.EventFilter;
 import io.spine.type.TypeName;
-import io.spine.type.TypeUrl;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static io.spine.protobuf.AnyPacker.unpackFunc;
 import static io.spine.util.Exceptions.newIllegalArgumentException;
-import static java.util.stream.Collectors.toList;
 
 /**
  * The predicate for filtering events by {@link EventFilter}.
+ *
+ * <p>The filter is compiled once, when the predicate is created: the field names are
+ * resolved and the expected values are unpacked. The type of the event is checked
+ * before unpacking the event message.
  */
 final class MatchFilter implements Predicate<Event> {
 
@@ -51,61 +55,69 @@ final class MatchFilter implements Predicate<Event> {
      *
      * <p>If null, all events are accepted.
      */
-    private final @Nullable TypeUrl eventTypeUrl;
+    private final @Nullable String eventTypeUrl;
 
     /**
-     * The list of aggregate IDs of which events to accept.
+     * The aggregate IDs of which events to accept.
      *
      * <p>If null, all IDs are accepted.
      */
-    private final @Nullable List<Any> aggregateIds;
+    private final @Nullable ImmutableSet<Any> aggregateIds;
 
-    private final Collection<FieldFilter> eventFieldFilters;
-    private final Collection<FieldFilter> contextFieldFilters;
+    private final ImmutableList<FieldCondition> eventFieldFilters;
+    private final ImmutableList<FieldCondition> contextFieldFilters;
 
     MatchFilter(EventFilter filter) {
         this.eventTypeUrl = getEventTypeUrl(filter);
         this.aggregateIds = getAggregateIdentifiers(filter);
-        this.eventFieldFilters = filter.getEventFieldFilterList();
-        this.contextFieldFilters = filter.getContextFieldFilterList();
+        this.eventFieldFilters = compile(filter.getEventFieldFilterList());
+        this.contextFieldFilters = compile(filter.getContextFieldFilterList());
     }
 
-    private static @Nullable TypeUrl getEventTypeUrl(EventFilter filter) {
+    private static @Nullable String getEventTypeUrl(EventFilter filter) {
         String eventType = filter.getEventType();
-        TypeUrl result = eventType.isEmpty()
-                         ? null
-                         : TypeName.of(eventType)
-                                   .toUrl();
+        String result = eventType.isEmpty()
+                        ? null
+                        : TypeName.of(eventType)
+                                  .toUrl()
+                                  .value();
         return result;
     }
 
-    private static @Nullable List<Any> getAggregateIdentifiers(EventFilter filter) {
+    private static @Nullable ImmutableSet<Any> getAggregateIdentifiers(EventFilter filter) {
         List<Any> aggregateIdList = filter.getAggregateIdList();
-        List<Any> result = aggregateIdList.isEmpty()
-                           ? null
-                           : aggregateIdList;
+        ImmutableSet<Any> result = aggregateIdList.isEmpty()
+                                   ? null
+                                   : ImmutableSet.copyOf(aggregateIdList);
         return result;
     }
 
+    private static ImmutableList<FieldCondition> compile(List<FieldFilter> filters) {
+        return filters.stream()
+                      .map(FieldCondition::new)
+                      .collect(toImmutableList());
+    }
+
     @Override
     public boolean test(@Nullable Event event) {
         if (event == null) {
             return false;
         }
 
-        EventMessage eventMessage = event.enclosedMessage();
-        EventContext context = event.context();
-
-        if (!checkEventType(eventMessage)) {
+        if (!checkEventType(event)) {
             return false;
         }
 
+        EventContext context = event.context();
         if (!checkAggregateIds(context)) {
             return false;
         }
 
-        if (!check(eventMessage, eventFieldFilters)) {
-            return false;
+        if (!eventFieldFilters.isEmpty()) {
+            Message eventMessage = event.enclosedMessage();
+            if (!check(eventMessage, eventFieldFilters)) {
+                return false;
+            }
         }
 
         boolean result = check(context, contextFieldFilters);
@@ -121,41 +133,57 @@ final class MatchFilter implements Predicate<Event> {
         return result;
     }
 
-    private boolean checkEventType(EventMessage event) {
-        boolean result = (eventTypeUrl == null) || eventTypeUrl.equals(event.typeUrl());
+    /**
+     * Checks the type of the event without unpacking the event message.
+     */
+    private boolean checkEventType(Event event) {
+        boolean result = (eventTypeUrl == null) || eventTypeUrl.equals(event.getMessage()
+                                                                            .getTypeUrl());
         return result;
     }
 
     /**
-     * Tells if the passed message matches the filters.
+     * Tells if the passed message matches the conditions.
      */
-    private static boolean check(Message message, Collection<FieldFilter> filters) {
-        for (FieldFilter filter : filters) {
-            boolean matchesFilter = checkFields(message, filter);
-            if (!matchesFilter) {
+    private static boolean check(Message message, List<FieldCondition> conditions) {
+        for (FieldCondition condition : conditions) {
+            boolean matches = condition.test(message);
+            if (!matches) {
                 return false;
             }
         }
         return true;
     }
 
-    private static boolean checkFields(Message object, FieldFilter filter) {
-        Field field = fieldFrom(filter);
-        Optional<Object> value = field.findValue(object);
-        if (!value.isPresent()) {
-            /* If there is no value in the field return `true`
-               if the list of required values is also empty. */
-            boolean nothingIsExpected = filter.getValueList().isEmpty();
-            return nothingIsExpected;
+    /**
+     * A compiled {@link FieldFilter}.
+     */
+    private static final class FieldCondition implements Predicate<Message> {
+
+        private final Field field;
+        private final ImmutableSet<Message> expectedValues;
+
+        private FieldCondition(FieldFilter filter) {
+            this.field = fieldFrom(filter);
+            this.expectedValues = filter.getValueList()
+                                        .stream()
+                                        .map(unpackFunc())
+                                        .collect(toImmutableSet());
+        }
+
+        @Override
+        public boolean test(Message message) {
+            Optional<Object> value = field.findValue(message);
+            if (!value.isPresent()) {
+                /* If there is no value in the field return `true`
+                   if the list of required values is also empty. */
+                boolean nothingIsExpected = expectedValues.isEmpty();
+                return nothingIsExpected;
+            }
+            Message msg = (Message) value.get();
+            boolean result = expectedValues.contains(msg);
+            return result;
         }
-        Collection<Message> expectedValues =
-                filter.getValueList()
-                      .stream()
-                      .map(unpackFunc())
-                      .collect(toList());
-        Message msg = (Message) value.get();
-        boolean result = expectedValues.contains(msg);
-        return result;
     }
 
     /**
@@ -20,15 +20,15 @@
 
 package io.spine.server.event.store;
 
+import com.google.common.collect.ImmutableList;
 import io.spine.core.Event;
-import io.spine.server.event.EventFilter;
 import io.spine.server.event.EventStreamQuery;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.List;
 import java.util.function.Predicate;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 
 /**
  * The predicate for filtering {@code Event} instances by {@link EventStreamQuery}.
@@ -36,26 +36,31 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * <p>The predicate ignores the time of bounds and matches only
  * the {@link io.spine.base.FieldFilter fields} of the event message and
  * the {@link io.spine.core.EventContext EventContext}.
+ *
+ * <p>The filters of the query are compiled once, when the predicate is created, so that
+ * the same instance should be used for matching all the events read by the query.
  */
 final class MatchesStreamQuery implements Predicate<Event> {
 
-    private final List<EventFilter> filterList;
+    private final ImmutableList<MatchFilter> filters;
 
     MatchesStreamQuery(EventStreamQuery query) {
         checkNotNull(query);
-        this.filterList = query.getFilterList();
+        this.filters = query.getFilterList()
+                            .stream()
+                            .map(MatchFilter::new)
+                            .collect(toImmutableList());
     }
 
     @Override
     public boolean test(@Nullable Event input) {
         checkNotNull(input);
-        if (filterList.isEmpty()) {
+        if (filters.isEmpty()) {
             return true; // No filters specified.
         }
         // Check if one of the filters matches. If so, the event matches.
-        for (EventFilter filter : filterList) {
-            Predicate<Event> filterPredicate = new MatchFilter(filter);
-            if (filterPredicate.test(input)) {
+        for (MatchFilter filter : filters) {
+            if (filter.test(input)) {
                 return true;
             }
         }
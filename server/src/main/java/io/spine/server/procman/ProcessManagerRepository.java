@@ -28,6 +28,7 @@ import io.spine.base.EntityState;
 import io.spine.core.Command;
 import io.spine.core.CommandId;
 import io.spine.core.Event;
+import io.spine.core.Version;
 import io.spine.server.BoundedContext;
 import io.spine.server.ServerEnvironment;
 import io.spine.server.commandbus.CommandBus;
@@ -49,18 +50,21 @@ import io.spine.server.procman.model.ProcessManagerClass;
 import io.spine.server.route.CommandRouting;
 import io.spine.server.route.EventRoute;
 import io.spine.server.route.EventRouting;
+import io.spine.server.storage.RecordStorage;
 import io.spine.server.type.CommandClass;
 import io.spine.server.type.CommandEnvelope;
 import io.spine.server.type.EventClass;
 import io.spine.server.type.EventEnvelope;
 import io.spine.server.type.SignalEnvelope;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Suppliers.memoize;
 import static io.spine.grpc.StreamObservers.noOpObserver;
 import static io.spine.option.EntityOption.Kind.PROCESS_MANAGER;
@@ -96,6 +100,13 @@ public abstract class ProcessManagerRepository<I,
 
     private @MonotonicNonNull RepositoryCache<I, P> cache;
 
+    /**
+     * The policy of retaining the entities in the cache between the batches.
+     *
+     * <p>If {@code null}, the entities are cached only for the duration of a batch.
+     */
+    private @Nullable RepositoryCache.Retention cacheRetention;
+
     protected ProcessManagerRepository() {
         super();
         this.commandRouting = memoize(() -> CommandRouting.newInstance(idClass()));
@@ -158,8 +169,61 @@ public abstract class ProcessManagerRepository<I,
         return context().eventBus();
     }
 
+    /**
+     * Makes the repository retain the loaded process managers in memory between
+     * the delivered batches of messages.
+     *
+     * <p>By default, process managers are only cached for the duration of a single batch.
+     * Retaining them saves restoring them from the stored records for each batch, which benefits
+     * the frequently addressed process managers.
+     *
+     * <p>A retained process manager is served to the next batch only if its version matches
+     * the version of the stored one. Otherwise, e.g. if the process manager was changed
+     * by another node, it is loaded from the storage.
+     *
+     * <p>Must be called before the repository is registered with a {@code BoundedContext}.
+     *
+     * @param retention
+     *         the policy of retaining the process managers
+     */
+    protected void setCacheRetention(RepositoryCache.Retention retention) {
+        checkNotNull(retention);
+        checkState(!isRegistered(),
+                   "The cache retention must be set before the repository is registered.");
+        this.cacheRetention = retention;
+    }
+
     private void initCache(boolean multitenant) {
-        cache = new RepositoryCache<>(multitenant, this::doFindOrCreate, this::doStore);
+        cache = cacheRetention == null
+                ? new RepositoryCache<>(multitenant, this::doFindOrCreate, this::doStore)
+                : new RepositoryCache<>(multitenant, this::doFindOrCreate, this::doStore,
+                                        cacheRetention, this::copyOf, this::storedVersion);
+    }
+
+    /**
+     * Obtains the cache of the process managers which are being dispatched messages.
+     */
+    @VisibleForTesting
+    final RepositoryCache<I, P> cache() {
+        return checkNotNull(cache);
+    }
+
+    /**
+     * Creates a copy of the passed process manager without reading it from the storage.
+     */
+    private P copyOf(P processManager) {
+        EntityRecord record = storageConverter().convert(processManager);
+        return toEntity(checkNotNull(record));
+    }
+
+    /**
+     * Reads the version of the stored process manager.
+     *
+     * <p>The storage is asked for the {@linkplain RecordStorage#readVersion(Object) version}
+     * alone, so the storages able to read it without the rest of the record do so.
+     */
+    private Optional<Version> storedVersion(I id) {
+        return recordStorage().readVersion(id);
     }
 
     /**
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.protobuf.Duration;
+import io.spine.client.EntityUpdates;
+import io.spine.client.SubscriptionUpdate;
+import io.spine.logging.Logging;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.google.protobuf.util.Durations.toNanos;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A {@link SubscriptionCallback} which passes to the delegate callback only the latest update
+ * of each entity within the {@linkplain io.spine.client.Topic#getUpdateInterval() update
+ * interval}.
+ *
+ * <p>The first update received when no flush is pending schedules a flush in the update interval.
+ * The updates received before the flush replace the pending updates of the same entities.
+ * Upon the flush, the pending updates are passed to the delegate in the order the entities
+ * were first updated.
+ *
+ * <p>The delegate callback is called only by the flush tasks, one at a time.
+ *
+ * <p>Once the callback is {@linkplain #cancel() cancelled}, the pending updates are discarded,
+ * and the delegate callback is no longer called.
+ */
+final class CoalescingCallback implements SubscriptionCallback, Logging {
+
+    private final SubscriptionCallback delegate;
+    private final long intervalNanos;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The pending updates by the entity ID.
+     *
+     * <p>An update which is not an update of a single entity is stored by itself.
+     *
+     * <p>Guarded by itself, along with the flags of this callback.
+     */
+    private final Map<Object, SubscriptionUpdate> pending = new LinkedHashMap<>();
+    private boolean flushScheduled = false;
+    private boolean cancelled = false;
+
+    CoalescingCallback(SubscriptionCallback delegate,
+                       Duration interval,
+                       ScheduledExecutorService scheduler) {
+        this.delegate = delegate;
+        this.intervalNanos = toNanos(interval);
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void accept(SubscriptionUpdate update) {
+        boolean scheduleFlush;
+        synchronized (pending) {
+            if (cancelled) {
+                return;
+            }
+            pending.put(keyOf(update), update);
+            scheduleFlush = !flushScheduled;
+            flushScheduled = true;
+        }
+        if (scheduleFlush) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Discards the pending updates and stops passing the updates to the delegate callback.
+     */
+    void cancel() {
+        synchronized (pending) {
+            cancelled = true;
+            pending.clear();
+        }
+    }
+
+    /**
+     * Schedules the flush of the pending updates in the update interval.
+     *
+     * <p>If the scheduler rejects the flush, the updates stay pending until the next update
+     * arrives.
+     */
+    private void scheduleFlush() {
+        try {
+            scheduler.schedule(this::flush, intervalNanos, NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            synchronized (pending) {
+                flushScheduled = false;
+            }
+            _warn().withCause(e)
+                   .log("Unable to schedule the flush of the coalesced subscription updates.");
+        }
+    }
+
+    private static Object keyOf(SubscriptionUpdate update) {
+        if (update.hasEntityUpdates()) {
+            EntityUpdates updates = update.getEntityUpdates();
+            if (updates.getUpdateCount() == 1) {
+                return updates.getUpdate(0)
+                              .getId();
+            }
+        }
+        return update;
+    }
+
+    /**
+     * Passes the pending updates to the delegate callback.
+     *
+     * <p>If more updates arrive while the delegate is called, schedules the next flush.
+     */
+    private void flush() {
+        List<SubscriptionUpdate> updates;
+        synchronized (pending) {
+            updates = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        for (SubscriptionUpdate update : updates) {
+            if (isCancelled()) {
+                return;
+            }
+            deliver(update);
+        }
+        boolean scheduleFlush;
+        synchronized (pending) {
+            scheduleFlush = !pending.isEmpty();
+            flushScheduled = scheduleFlush;
+        }
+        if (scheduleFlush) {
+            scheduleFlush();
+        }
+    }
+
+    private boolean isCancelled() {
+        synchronized (pending) {
+            return cancelled;
+        }
+    }
+
+    private void deliver(SubscriptionUpdate update) {
+        try {
+            delegate.accept(update);
+        } catch (Throwable t) {
+            _error().withCause(t)
+                    .log("Unable to deliver a coalesced subscription update.");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.base.Supplier;
+import com.google.protobuf.Any;
+import io.spine.base.EntityState;
+import io.spine.protobuf.AnyPacker;
+import io.spine.server.type.EventEnvelope;
+import io.spine.system.server.event.EntityStateChanged;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Suppliers.memoize;
+
+/**
+ * An {@link EntityStateChanged} event being matched against the entity subscriptions.
+ *
+ * <p>Unpacks the event message and the entity states at most once, so that
+ * the subscriptions which receive the same event share the unpacked values.
+ */
+final class EntityStateChange {
+
+    private final EventEnvelope event;
+    private final EntityStateChanged message;
+    private final Supplier<EntityState> newState;
+    private final Supplier<EntityState> oldState;
+
+    private EntityStateChange(EventEnvelope event) {
+        this.event = event;
+        this.message = (EntityStateChanged) event.message();
+        this.newState = memoize(() -> unpack(message.getNewState()));
+        this.oldState = memoize(() -> unpack(message.getOldState()));
+    }
+
+    /**
+     * Creates a new instance for the passed {@code EntityStateChanged} event.
+     */
+    static EntityStateChange of(EventEnvelope event) {
+        checkNotNull(event);
+        return new EntityStateChange(event);
+    }
+
+    private static EntityState unpack(Any state) {
+        return (EntityState) AnyPacker.unpack(state);
+    }
+
+    /**
+     * Obtains the changed event.
+     */
+    EventEnvelope event() {
+        return event;
+    }
+
+    /**
+     * Obtains the message of the event.
+     */
+    EntityStateChanged message() {
+        return message;
+    }
+
+    /**
+     * Obtains the type URL of the changed entity state.
+     */
+    String entityType() {
+        return message.getEntity()
+                      .getTypeUrl();
+    }
+
+    /**
+     * Obtains the packed ID of the changed entity.
+     */
+    Any entityId() {
+        return message.getEntity()
+                      .getId();
+    }
+
+    /**
+     * Obtains the state of the entity after the change.
+     */
+    EntityState newState() {
+        return newState.get();
+    }
+
+    /**
+     * Obtains the state of the entity before the change.
+     */
+    EntityState oldState() {
+        return oldState.get();
+    }
+}
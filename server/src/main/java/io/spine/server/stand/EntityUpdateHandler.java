@@ -30,7 +30,6 @@ import io.spine.client.Subscription;
 import io.spine.client.SubscriptionUpdate;
 import io.spine.client.TargetFilters;
 import io.spine.core.Responses;
-import io.spine.protobuf.AnyPacker;
 import io.spine.server.type.EventEnvelope;
 import io.spine.system.server.event.EntityStateChanged;
 
@@ -61,17 +60,26 @@ final class EntityUpdateHandler extends UpdateHandler {
      */
     @Override
     Optional<SubscriptionUpdate> detectUpdate(EventEnvelope event) {
+        return detectUpdate(EntityStateChange.of(event));
+    }
+
+    /**
+     * Tries to detect the passed entity state change as a {@code SubscriptionUpdate}.
+     *
+     * @see #detectUpdate(EventEnvelope)
+     */
+    Optional<SubscriptionUpdate> detectUpdate(EntityStateChange change) {
         SubscriptionUpdate result = null;
 
-        if (typeMatches(event)) {
+        if (typeMatches(change)) {
             if (includeAll()) {
-                result = newStateUpdate(event);
+                result = newStateUpdate(change);
             } else {
-                if (idMatches(event)) {
-                    if (stateMatches(newStateFrom(event))) {
-                        result = newStateUpdate(event);
-                    } else if (stateMatches(oldStateFrom(event))) {
-                        result = noLongerMatching(event);
+                if (idMatches(change.entityId())) {
+                    if (stateMatches(change.newState())) {
+                        result = newStateUpdate(change);
+                    } else if (stateMatches(change.oldState())) {
+                        result = noLongerMatching(change);
                     }
                 }
             }
@@ -79,25 +87,35 @@ final class EntityUpdateHandler extends UpdateHandler {
         return Optional.ofNullable(result);
     }
 
+    /**
+     * Analyzes the passed entity state change and notifies the read-side if it triggered
+     * a subscription update.
+     *
+     * <p>The subscription must be {@linkplain #isActive() active}.
+     */
+    void handle(EntityStateChange change) {
+        checkActive(change.event());
+        detectUpdate(change).ifPresent(this::deliverUpdate);
+    }
+
     @Override
     protected boolean typeMatches(EventEnvelope event) {
+        return typeMatches(EntityStateChange.of(event));
+    }
+
+    private boolean typeMatches(EntityStateChange change) {
         String expectedTypeUrl = target().getType();
-        String actualTypeUrl = asEntityEvent(event).getEntity()
-                                                   .getTypeUrl();
+        String actualTypeUrl = change.entityType();
         return expectedTypeUrl.equals(actualTypeUrl);
     }
 
     @Override
     protected Any extractId(EventEnvelope event) {
-        Any entityId = asEntityEvent(event).getEntity()
-                                           .getId();
+        Any entityId = EntityStateChange.of(event)
+                                        .entityId();
         return entityId;
     }
 
-    private static EntityStateChanged asEntityEvent(EventEnvelope event) {
-        return (EntityStateChanged) event.message();
-    }
-
     /**
      * Checks if the entity state matches the subscription filters.
      */
@@ -110,20 +128,6 @@ final class EntityUpdateHandler extends UpdateHandler {
         return result;
     }
 
-    private static EntityState newStateFrom(EventEnvelope event) {
-        EntityStateChanged eventMessage = asEntityEvent(event);
-        Any newState = eventMessage.getNewState();
-        EntityState result = (EntityState) AnyPacker.unpack(newState);
-        return result;
-    }
-
-    private static EntityState oldStateFrom(EventEnvelope event) {
-        EntityStateChanged eventMessage = asEntityEvent(event);
-        Any newState = eventMessage.getOldState();
-        EntityState result = (EntityState) AnyPacker.unpack(newState);
-        return result;
-    }
-
     private static Any packId(EntityStateChanged event) {
         EntityId entityId = EntityId
                 .newBuilder()
@@ -133,8 +137,8 @@ final class EntityUpdateHandler extends UpdateHandler {
         return Identifier.pack(entityId);
     }
 
-    private SubscriptionUpdate newStateUpdate(EventEnvelope event) {
-        EntityStateChanged theEvent = asEntityEvent(event);
+    private SubscriptionUpdate newStateUpdate(EntityStateChange change) {
+        EntityStateChanged theEvent = change.message();
         Any packedId = packId(theEvent);
         Any packedState = theEvent.getNewState();
         EntityStateUpdate stateUpdate = EntityStateUpdate
@@ -145,8 +149,8 @@ final class EntityUpdateHandler extends UpdateHandler {
         return toSubscriptionUpdate(stateUpdate);
     }
 
-    private SubscriptionUpdate noLongerMatching(EventEnvelope event) {
-        EntityStateChanged theEvent = asEntityEvent(event);
+    private SubscriptionUpdate noLongerMatching(EntityStateChange change) {
+        EntityStateChanged theEvent = change.message();
         Any packedId = packId(theEvent);
         EntityStateUpdate stateUpdate = EntityStateUpdate
                 .newBuilder()
@@ -21,9 +21,13 @@
 package io.spine.server.stand;
 
 import io.spine.server.bus.Listener;
+import io.spine.server.type.EventClass;
 import io.spine.server.type.EventEnvelope;
+import io.spine.system.server.event.EntityStateChanged;
 import io.spine.type.TypeUrl;
 
+import java.util.Set;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -32,6 +36,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
  */
 final class EventTap implements Listener<EventEnvelope> {
 
+    private static final EventClass ENTITY_STATE_CHANGED =
+            EventClass.from(EntityStateChanged.class);
+
     /**
      * Manages the subscriptions for this instance of {@code Stand}.
      */
@@ -41,14 +48,46 @@ final class EventTap implements Listener<EventEnvelope> {
         this.subscriptionRegistry = checkNotNull(subscriptionRegistry);
     }
 
+    /**
+     * Passes the event to the active subscriptions which may be interested in it.
+     *
+     * <p>An {@link EntityStateChanged} event is passed only to the subscriptions to the changed
+     * entity, which are looked up by the entity type and ID. The entity states are unpacked
+     * once for all of these subscriptions.
+     */
     @Override
     public void accept(EventEnvelope event) {
+        if (event.isExternal()) {
+            return;
+        }
         TypeUrl typeUrl = event.typeUrl();
-        if (!event.isExternal() && subscriptionRegistry.hasType(typeUrl)) {
-            subscriptionRegistry.byType(typeUrl)
-                                .stream()
-                                .filter(SubscriptionRecord::isActive)
-                                .forEach(record -> record.update(event));
+        if (!subscriptionRegistry.hasType(typeUrl)) {
+            return;
+        }
+        if (ENTITY_STATE_CHANGED.equals(event.messageClass())) {
+            EntityStateChange change = EntityStateChange.of(event);
+            Set<SubscriptionRecord> records =
+                    subscriptionRegistry.byEntity(change.entityType(), change.entityId());
+            for (SubscriptionRecord record : records) {
+                if (record.isActive()) {
+                    record.update(change);
+                }
+            }
+        }
+        updateEventSubscriptions(typeUrl, event);
+    }
+
+    /**
+     * Passes the event to the active subscriptions to the events of its type.
+     *
+     * <p>The records of the entity subscriptions are not looked at, as they are updated
+     * with an {@link EntityStateChange}.
+     */
+    private void updateEventSubscriptions(TypeUrl typeUrl, EventEnvelope event) {
+        for (SubscriptionRecord record : subscriptionRegistry.byEventType(typeUrl)) {
+            if (record.isActive()) {
+                record.update(event);
+            }
         }
     }
 }
@@ -19,6 +19,7 @@
  */
 package io.spine.server.stand;
 
+import com.google.protobuf.Any;
 import io.spine.client.Subscription;
 import io.spine.client.SubscriptionId;
 import io.spine.client.Topic;
@@ -76,6 +77,16 @@ final class MultitenantSubscriptionRegistry implements SubscriptionRegistry {
         return registrySlice().byType(type);
     }
 
+    @Override
+    public Set<SubscriptionRecord> byEventType(TypeUrl eventType) {
+        return registrySlice().byEventType(eventType);
+    }
+
+    @Override
+    public Set<SubscriptionRecord> byEntity(String entityType, Any entityId) {
+        return registrySlice().byEntity(entityType, entityId);
+    }
+
     @Override
     public boolean containsId(SubscriptionId subscriptionId) {
         return registrySlice().containsId(subscriptionId);
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.protobuf.Any;
+import io.spine.client.EntityUpdates;
+import io.spine.client.Subscription;
+import io.spine.client.SubscriptionUpdate;
+import io.spine.logging.Logging;
+import io.spine.server.stand.UpdateDelivery.Overflow;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A {@link SubscriptionCallback} which queues the updates and passes them to the delegate
+ * callback asynchronously.
+ *
+ * <p>The queue is drained by a single task of the {@linkplain UpdateDelivery#executor()
+ * delivery executor} at a time, so that the delegate callback is never called concurrently.
+ *
+ * @see UpdateDelivery
+ */
+final class QueuedCallback implements SubscriptionCallback, Logging {
+
+    private final Subscription subscription;
+    private final SubscriptionCallback delegate;
+    private final Runnable onCancel;
+    private final UpdateDelivery delivery;
+
+    /**
+     * The pending updates.
+     *
+     * <p>Guarded by itself, along with the flags of this callback.
+     */
+    private final Deque<SubscriptionUpdate> queue = new ArrayDeque<>();
+
+    /**
+     * Tells if there is a task draining the queue.
+     */
+    private boolean draining = false;
+
+    /**
+     * Tells if the subscription is cancelled due to the overflow.
+     */
+    private boolean cancelled = false;
+
+    QueuedCallback(Subscription subscription,
+                   SubscriptionCallback delegate,
+                   Runnable onCancel,
+                   UpdateDelivery delivery) {
+        this.subscription = subscription;
+        this.delegate = delegate;
+        this.onCancel = onCancel;
+        this.delivery = delivery;
+    }
+
+    @Override
+    public void accept(SubscriptionUpdate update) {
+        boolean startDraining;
+        synchronized (queue) {
+            if (cancelled) {
+                return;
+            }
+            if (queue.size() >= delivery.capacity()) {
+                overflow(update);
+            }
+            if (!cancelled) {
+                queue.addLast(update);
+            }
+            startDraining = !draining;
+            draining = true;
+        }
+        if (startDraining) {
+            startDraining();
+        }
+    }
+
+    /**
+     * Submits the task draining the queue to the delivery executor.
+     *
+     * <p>If the executor rejects the task, the updates stay in the queue until the next update
+     * arrives. If the subscription is already cancelled, it is cancelled right away.
+     */
+    private void startDraining() {
+        try {
+            delivery.executor()
+                    .execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            boolean cancelledNow;
+            synchronized (queue) {
+                draining = false;
+                cancelledNow = cancelled;
+            }
+            _warn().withCause(e)
+                   .log("Unable to deliver the updates of the subscription `%s`.",
+                        subscription.getId()
+                                    .getValue());
+            if (cancelledNow) {
+                onCancel.run();
+            }
+        }
+    }
+
+    /**
+     * Frees the space in the full queue, or cancels the subscription,
+     * according to the overflow policy.
+     */
+    private void overflow(SubscriptionUpdate update) {
+        Overflow policy = delivery.overflow();
+        switch (policy) {
+            case CANCEL:
+                _warn().log("The update queue of the subscription `%s` is full. " +
+                                    "Cancelling the subscription.",
+                            subscription.getId()
+                                        .getValue());
+                cancelled = true;
+                queue.clear();
+                break;
+            case COALESCE_BY_ENTITY:
+                boolean coalesced = removeSameEntity(update);
+                if (!coalesced) {
+                    queue.pollFirst();
+                }
+                break;
+            case DROP_OLDEST:
+            default:
+                queue.pollFirst();
+        }
+    }
+
+    /**
+     * Removes the queued updates of the same entity as the passed update.
+     *
+     * @return {@code true} if any updates were removed, {@code false} otherwise
+     */
+    private boolean removeSameEntity(SubscriptionUpdate update) {
+        @Nullable Any entityId = entityIdOf(update);
+        if (entityId == null) {
+            return false;
+        }
+        boolean removed = false;
+        for (Iterator<SubscriptionUpdate> iterator = queue.iterator(); iterator.hasNext(); ) {
+            SubscriptionUpdate queued = iterator.next();
+            if (Objects.equals(entityId, entityIdOf(queued))) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Obtains the ID of the entity which state the update holds.
+     *
+     * @return the packed entity ID, or {@code null} if the passed update is not an update of
+     *         a single entity
+     */
+    private static @Nullable Any entityIdOf(SubscriptionUpdate update) {
+        if (!update.hasEntityUpdates()) {
+            return null;
+        }
+        EntityUpdates updates = update.getEntityUpdates();
+        if (updates.getUpdateCount() != 1) {
+            return null;
+        }
+        return updates.getUpdate(0)
+                      .getId();
+    }
+
+    /**
+     * Passes the queued updates to the delegate callback until the queue is empty.
+     */
+    private void drain() {
+        while (true) {
+            SubscriptionUpdate update;
+            synchronized (queue) {
+                update = queue.pollFirst();
+                if (update == null) {
+                    draining = false;
+                    if (cancelled) {
+                        break;
+                    }
+                    return;
+                }
+            }
+            deliver(update);
+        }
+        onCancel.run();
+    }
+
+    private void deliver(SubscriptionUpdate update) {
+        try {
+            delegate.accept(update);
+        } catch (Throwable t) {
+            _error().withCause(t)
+                    .log("Unable to deliver an update of the subscription `%s`.",
+                         subscription.getId()
+                                     .getValue());
+        }
+    }
+}
@@ -21,6 +21,7 @@ package io.spine.server.stand;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Any;
 import io.grpc.stub.StreamObserver;
@@ -30,6 +31,7 @@ import io.spine.client.EntityStateWithVersion;
 import io.spine.client.Query;
 import io.spine.client.QueryResponse;
 import io.spine.client.Subscription;
+import io.spine.client.SubscriptionId;
 import io.spine.client.Topic;
 import io.spine.core.MessageId;
 import io.spine.core.Origin;
@@ -52,14 +54,20 @@ import io.spine.server.type.EventEnvelope;
 import io.spine.system.server.SystemReadSide;
 import io.spine.system.server.event.EntityStateChanged;
 import io.spine.type.TypeUrl;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.Maps.newConcurrentMap;
 import static io.spine.grpc.StreamObservers.ack;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
 
 /**
  * A bridge which connects {@link io.spine.server.QueryService QueryService} and
@@ -116,6 +124,20 @@ public class Stand implements AutoCloseable {
     private final AggregateQueryProcessor aggregateQueryProcessor;
     private final EventTap eventTap;
 
+    /**
+     * Flushes the coalesced entity state updates.
+     *
+     * <p>Is created upon the activation of the first subscription which topic has
+     * an {@linkplain Topic#getUpdateInterval() update interval}.
+     */
+    private @MonotonicNonNull ScheduledExecutorService flushScheduler;
+
+    /**
+     * The callbacks coalescing the updates of the active subscriptions, by the subscription ID.
+     */
+    private final Map<SubscriptionId, CoalescingCallback> coalescingCallbacks =
+            newConcurrentMap();
+
     private Stand(Builder builder) {
         super();
         this.multitenant = builder.multitenant != null
@@ -227,6 +249,11 @@ public class Stand implements AutoCloseable {
      * <p>After the activation, the clients will start receiving the updates via the passed
      * {@code SubscriptionCallback}.
      *
+     * <p>If the topic of an entity subscription has an
+     * {@linkplain Topic#getUpdateInterval() update interval}, the updates of each entity are
+     * coalesced, so that the callback receives only the latest update of an entity
+     * within the interval.
+     *
      * @param subscription
      *         the subscription to activate
      * @param callback
@@ -243,11 +270,12 @@ public class Stand implements AutoCloseable {
         checkNotNull(callback);
 
         subscriptionValidator.validate(subscription);
+        SubscriptionCallback actualCallback = coalescing(subscription, callback);
 
         SubscriptionOperation op = new SubscriptionOperation(subscription) {
             @Override
             public void run() {
-                subscriptionRegistry.activate(subscription, callback);
+                subscriptionRegistry.activate(subscription, actualCallback);
                 ack(responseObserver);
             }
         };
@@ -255,6 +283,36 @@ public class Stand implements AutoCloseable {
         op.execute();
     }
 
+    /**
+     * Wraps the passed callback into a {@link CoalescingCallback} if the subscription
+     * requires so.
+     */
+    private SubscriptionCallback coalescing(Subscription subscription,
+                                            SubscriptionCallback callback) {
+        Topic topic = subscription.getTopic();
+        if (subscription.ofEvent() || !topic.hasUpdateInterval()) {
+            return callback;
+        }
+        CoalescingCallback result =
+                new CoalescingCallback(callback, topic.getUpdateInterval(), flushScheduler());
+        CoalescingCallback previous = coalescingCallbacks.put(subscription.getId(), result);
+        if (previous != null) {
+            previous.cancel();
+        }
+        return result;
+    }
+
+    private synchronized ScheduledExecutorService flushScheduler() {
+        if (flushScheduler == null) {
+            ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                    .setDaemon(true)
+                    .setNameFormat("stand-flush-%d")
+                    .build();
+            flushScheduler = newSingleThreadScheduledExecutor(threadFactory);
+        }
+        return flushScheduler;
+    }
+
     /**
      * Cancels the {@link Subscription}.
      *
@@ -282,6 +340,10 @@ public class Stand implements AutoCloseable {
             }
         };
         op.execute();
+        CoalescingCallback coalescing = coalescingCallbacks.remove(subscription.getId());
+        if (coalescing != null) {
+            coalescing.cancel();
+        }
     }
 
     /**
@@ -377,6 +439,14 @@ public class Stand implements AutoCloseable {
     public void close() throws Exception {
         typeRegistry.close();
         eventRegistry.close();
+        coalescingCallbacks.values()
+                           .forEach(CoalescingCallback::cancel);
+        coalescingCallbacks.clear();
+        synchronized (this) {
+            if (flushScheduler != null) {
+                flushScheduler.shutdown();
+            }
+        }
     }
 
     /**
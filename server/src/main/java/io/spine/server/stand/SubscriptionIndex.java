@@ -0,0 +1,208 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.protobuf.Any;
+import io.spine.client.IdFilter;
+import io.spine.client.Target;
+import io.spine.type.TypeUrl;
+
+/**
+ * An immutable snapshot of the subscription records of a registry.
+ *
+ * <p>Besides the records grouped by their {@linkplain SubscriptionRecord#targetType() type},
+ * indexes the entity subscriptions by the type of the entity state and by the IDs
+ * of the {@linkplain IdFilter ID filter}. This way only the subscriptions which may match
+ * a change of a particular entity are analyzed when the entity state changes. The event
+ * subscriptions are indexed separately, so that they are found without going through
+ * the entity subscriptions.
+ *
+ * <p>The registry replaces the snapshot as a whole each time a subscription is added or removed.
+ * As subscriptions change far less often than the events are delivered, this allows reading
+ * the records without locking or copying.
+ */
+final class SubscriptionIndex {
+
+    private static final SubscriptionIndex EMPTY = new SubscriptionIndex(ImmutableSet.of());
+
+    private final ImmutableSet<SubscriptionRecord> records;
+    private final ImmutableSetMultimap<TypeUrl, SubscriptionRecord> byType;
+
+    /**
+     * Entity subscriptions which match any ID, by the type of the entity state.
+     */
+    private final ImmutableSetMultimap<String, SubscriptionRecord> anyEntity;
+
+    /**
+     * Entity subscriptions which match only particular IDs, by the entity.
+     */
+    private final ImmutableSetMultimap<EntityKey, SubscriptionRecord> byEntity;
+
+    /**
+     * Event subscriptions, by the type of the event.
+     */
+    private final ImmutableSetMultimap<TypeUrl, SubscriptionRecord> byEventType;
+
+    private SubscriptionIndex(ImmutableSet<SubscriptionRecord> records) {
+        this.records = records;
+        ImmutableSetMultimap.Builder<TypeUrl, SubscriptionRecord> byType =
+                ImmutableSetMultimap.builder();
+        ImmutableSetMultimap.Builder<String, SubscriptionRecord> anyEntity =
+                ImmutableSetMultimap.builder();
+        ImmutableSetMultimap.Builder<EntityKey, SubscriptionRecord> byEntity =
+                ImmutableSetMultimap.builder();
+        ImmutableSetMultimap.Builder<TypeUrl, SubscriptionRecord> byEventType =
+                ImmutableSetMultimap.builder();
+        for (SubscriptionRecord record : records) {
+            byType.put(record.targetType(), record);
+            if (record.ofEntity()) {
+                Target target = record.target();
+                String entityType = target.getType();
+                IdFilter idFilter = target.getFilters()
+                                          .getIdFilter();
+                if (target.getIncludeAll() || idFilter.getIdCount() == 0) {
+                    anyEntity.put(entityType, record);
+                } else {
+                    for (Any id : idFilter.getIdList()) {
+                        byEntity.put(new EntityKey(entityType, id), record);
+                    }
+                }
+            } else {
+                byEventType.put(record.targetType(), record);
+            }
+        }
+        this.byType = byType.build();
+        this.anyEntity = anyEntity.build();
+        this.byEntity = byEntity.build();
+        this.byEventType = byEventType.build();
+    }
+
+    /**
+     * Obtains an index without records.
+     */
+    static SubscriptionIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a new index with the passed record added.
+     */
+    SubscriptionIndex with(SubscriptionRecord record) {
+        ImmutableSet<SubscriptionRecord> newRecords = ImmutableSet
+                .<SubscriptionRecord>builder()
+                .addAll(records)
+                .add(record)
+                .build();
+        return new SubscriptionIndex(newRecords);
+    }
+
+    /**
+     * Creates a new index with the passed record removed.
+     */
+    SubscriptionIndex without(SubscriptionRecord record) {
+        ImmutableSet<SubscriptionRecord> newRecords =
+                records.stream()
+                       .filter(r -> !r.equals(record))
+                       .collect(ImmutableSet.toImmutableSet());
+        return new SubscriptionIndex(newRecords);
+    }
+
+    /**
+     * Obtains the records of the given type.
+     */
+    ImmutableSet<SubscriptionRecord> byType(TypeUrl type) {
+        return byType.get(type);
+    }
+
+    /**
+     * Obtains the event subscription records of the given event type.
+     *
+     * <p>Unlike {@link #byType(TypeUrl)}, the records of the entity subscriptions are not
+     * included.
+     */
+    ImmutableSet<SubscriptionRecord> byEventType(TypeUrl type) {
+        return byEventType.get(type);
+    }
+
+    /**
+     * Tells if there are records of the given type.
+     */
+    boolean hasType(TypeUrl type) {
+        return byType.containsKey(type);
+    }
+
+    /**
+     * Obtains the entity subscription records which may match a change of the given entity.
+     *
+     * @param entityType
+     *         the type URL of the entity state
+     * @param entityId
+     *         the packed ID of the entity
+     */
+    ImmutableSet<SubscriptionRecord> byEntity(String entityType, Any entityId) {
+        ImmutableSet<SubscriptionRecord> ofAnyId = anyEntity.get(entityType);
+        ImmutableSet<SubscriptionRecord> ofId = byEntity.get(new EntityKey(entityType, entityId));
+        if (ofId.isEmpty()) {
+            return ofAnyId;
+        }
+        if (ofAnyId.isEmpty()) {
+            return ofId;
+        }
+        return ImmutableSet.<SubscriptionRecord>builder()
+                           .addAll(ofAnyId)
+                           .addAll(ofId)
+                           .build();
+    }
+
+    /**
+     * A type and an ID of an entity.
+     */
+    private static final class EntityKey {
+
+        private final String type;
+        private final Any id;
+
+        private EntityKey(String type, Any id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EntityKey)) {
+                return false;
+            }
+            EntityKey other = (EntityKey) o;
+            return type.equals(other.type) && id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(type, id);
+        }
+    }
+}
@@ -23,12 +23,16 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Objects;
 import io.spine.client.Subscription;
 import io.spine.client.SubscriptionUpdate;
+import io.spine.client.Target;
 import io.spine.server.type.EventEnvelope;
 import io.spine.system.server.event.EntityStateChanged;
 import io.spine.type.TypeUrl;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Optional;
 
+import static com.google.common.base.Preconditions.checkState;
+
 /**
  * A {@link SubscriptionRegistry} entry that manages a single subscription.
  */
@@ -39,10 +43,18 @@ final class SubscriptionRecord {
     private final TypeUrl type;
     private final UpdateHandler handler;
 
+    /**
+     * The handler of the entity subscription, or {@code null} for an event subscription.
+     */
+    private final @Nullable EntityUpdateHandler entityHandler;
+
     private SubscriptionRecord(Subscription s, TypeUrl targetType, UpdateHandler handler) {
         this.subscription = s;
         this.type = targetType;
         this.handler = handler;
+        this.entityHandler = handler instanceof EntityUpdateHandler
+                             ? (EntityUpdateHandler) handler
+                             : null;
     }
 
     /**
@@ -105,6 +117,22 @@ final class SubscriptionRecord {
         handler.handle(event);
     }
 
+    /**
+     * Updates the entity subscription with the given entity state change.
+     *
+     * <p>Has the same assumptions as {@link #update(EventEnvelope)}.
+     *
+     * @throws IllegalStateException
+     *         if the subscription is not activated or is not an entity subscription
+     */
+    void update(EntityStateChange change) {
+        checkState(entityHandler != null,
+                   "The subscription `%s` is not an entity subscription.",
+                   subscription.getId()
+                               .getValue());
+        entityHandler.handle(change);
+    }
+
     /**
      * Checks whether this record has an active callback attached.
      */
@@ -125,6 +153,20 @@ final class SubscriptionRecord {
         return type;
     }
 
+    /**
+     * Tells if this record manages a subscription to entity state updates.
+     */
+    boolean ofEntity() {
+        return entityHandler != null;
+    }
+
+    /**
+     * Obtains the target of the subscription.
+     */
+    Target target() {
+        return handler.target();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
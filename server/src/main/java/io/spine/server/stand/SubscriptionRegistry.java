@@ -19,6 +19,7 @@
  */
 package io.spine.server.stand;
 
+import com.google.protobuf.Any;
 import io.spine.client.Subscription;
 import io.spine.client.SubscriptionId;
 import io.spine.client.Topic;
@@ -97,6 +98,34 @@ interface SubscriptionRegistry {
      */
     Set<SubscriptionRecord> byType(TypeUrl type);
 
+    /**
+     * Obtains the records of the event subscriptions to the given event type.
+     *
+     * <p>Unlike {@link #byType(TypeUrl)}, does not return the records of the entity
+     * subscriptions, even though they are subscribed to {@code EntityStateChanged} events.
+     *
+     * @param eventType
+     *         the type of the events
+     * @return the records of the subscriptions to the events of the type
+     */
+    Set<SubscriptionRecord> byEventType(TypeUrl eventType);
+
+    /**
+     * Obtains the records of the entity subscriptions which may match a change
+     * of the given entity.
+     *
+     * <p>The records of the subscriptions filtering by ID are returned only if the passed ID
+     * is among the filtered ones. The returned records are not checked against
+     * the entity state filters.
+     *
+     * @param entityType
+     *         the type URL of the entity state
+     * @param entityId
+     *         the packed ID of the entity
+     * @return the records which may match the change of the entity
+     */
+    Set<SubscriptionRecord> byEntity(String entityType, Any entityId);
+
     /**
      * Checks whether the current registry has the records related to a given type.
      *
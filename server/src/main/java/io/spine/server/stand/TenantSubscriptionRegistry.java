@@ -20,9 +20,7 @@
 
 package io.spine.server.stand;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.SetMultimap;
+import com.google.protobuf.Any;
 import io.spine.client.Subscription;
 import io.spine.client.SubscriptionId;
 import io.spine.client.Subscriptions;
@@ -34,18 +32,21 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkState;
-import static com.google.common.collect.Multimaps.synchronizedSetMultimap;
 
 /**
  * A slice with subscriptions belonging to one tenant in a multi-tenant application.
  */
 final class TenantSubscriptionRegistry implements SubscriptionRegistry {
 
-    private final SetMultimap<TypeUrl, SubscriptionRecord> typeToRecord =
-            synchronizedSetMultimap(HashMultimap.create());
+    /**
+     * The snapshot of the registered records.
+     *
+     * <p>Is replaced under the {@linkplain #lock lock} when subscriptions are added or removed,
+     * and is read without locking.
+     */
+    private volatile SubscriptionIndex index = SubscriptionIndex.empty();
     private final Map<Subscription, SubscriptionRecord> subscriptionToAttrs =
             new ConcurrentHashMap<>();
     private final Lock lock = new ReentrantLock();
@@ -70,9 +71,8 @@ final class TenantSubscriptionRegistry implements SubscriptionRegistry {
     @Override
     public void add(Subscription subscription) {
         SubscriptionRecord record = SubscriptionRecord.of(subscription);
-        TypeUrl type = record.targetType();
         lockAndRun(() -> {
-            typeToRecord.put(type, record);
+            index = index.with(record);
             subscriptionToAttrs.put(subscription, record);
         });
     }
@@ -84,19 +84,29 @@ final class TenantSubscriptionRegistry implements SubscriptionRegistry {
                 return;
             }
             SubscriptionRecord record = subscriptionToAttrs.get(subscription);
-            typeToRecord.remove(record.targetType(), record);
+            index = index.without(record);
             subscriptionToAttrs.remove(subscription);
         });
     }
 
     @Override
     public Set<SubscriptionRecord> byType(TypeUrl type) {
-        return ImmutableSet.copyOf(lockAndGet(() -> typeToRecord.get(type)));
+        return index.byType(type);
+    }
+
+    @Override
+    public Set<SubscriptionRecord> byEventType(TypeUrl eventType) {
+        return index.byEventType(eventType);
+    }
+
+    @Override
+    public Set<SubscriptionRecord> byEntity(String entityType, Any entityId) {
+        return index.byEntity(entityType, entityId);
     }
 
     @Override
     public boolean hasType(TypeUrl type) {
-        boolean result = typeToRecord.containsKey(type);
+        boolean result = index.hasType(type);
         return result;
     }
 
@@ -118,13 +128,4 @@ final class TenantSubscriptionRegistry implements SubscriptionRegistry {
             lock.unlock();
         }
     }
-
-    private <T> T lockAndGet(Supplier<T> operation) {
-        lock.lock();
-        try {
-            return operation.get();
-        } finally {
-            lock.unlock();
-        }
-    }
 }
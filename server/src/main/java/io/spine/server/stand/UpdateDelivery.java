@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.spine.client.Subscription;
+
+import java.util.concurrent.Executor;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Configuration of the asynchronous delivery of subscription updates to the read-side.
+ *
+ * <p>By default, a {@link SubscriptionCallback} is invoked on the thread which posted
+ * the event causing the update. A slow subscriber may then stall the event dispatching
+ * of the whole Bounded Context.
+ *
+ * <p>When a callback is {@linkplain #queue(Subscription, SubscriptionCallback, Runnable) queued},
+ * the updates are put into a bounded queue of the subscription, and are passed
+ * to the callback by the {@linkplain Builder#setExecutor(Executor) delivery executor}.
+ * The updates of a single subscription are passed one at a time and in the order of arrival.
+ * When the queue is full, the {@linkplain Overflow overflow policy} applies.
+ */
+public final class UpdateDelivery {
+
+    private final Executor executor;
+    private final int capacity;
+    private final Overflow overflow;
+
+    private UpdateDelivery(Builder builder) {
+        this.executor = builder.executor;
+        this.capacity = builder.capacity;
+        this.overflow = builder.overflow;
+    }
+
+    /**
+     * Creates a new builder of {@code UpdateDelivery}.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a callback which queues the updates of the subscription and passes them
+     * to the given callback asynchronously.
+     *
+     * @param subscription
+     *         the subscription which updates are delivered
+     * @param callback
+     *         the callback to pass the updates to
+     * @param onCancel
+     *         the action to run once the subscription is cancelled due to
+     *         the {@linkplain Overflow#CANCEL overflow}; is run by the delivery executor after
+     *         all the updates passed to the {@code callback}
+     * @return the queueing callback
+     */
+    public SubscriptionCallback queue(Subscription subscription,
+                                      SubscriptionCallback callback,
+                                      Runnable onCancel) {
+        checkNotNull(subscription);
+        checkNotNull(callback);
+        checkNotNull(onCancel);
+        return new QueuedCallback(subscription, callback, onCancel, this);
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    Overflow overflow() {
+        return overflow;
+    }
+
+    /**
+     * The policy of handling an update which does not fit into the queue of the subscription.
+     */
+    public enum Overflow {
+
+        /**
+         * The oldest queued update is dropped to free space for the new one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * The queued updates of the same entity are dropped, as the new update holds
+         * a newer state of the entity.
+         *
+         * <p>If there are no such updates, or the update is not an entity update,
+         * the oldest queued update is dropped.
+         */
+        COALESCE_BY_ENTITY,
+
+        /**
+         * The subscription is cancelled, and the queued updates are discarded.
+         */
+        CANCEL
+    }
+
+    /**
+     * A builder of {@code UpdateDelivery}.
+     */
+    public static final class Builder {
+
+        private static final int DEFAULT_CAPACITY = 1024;
+
+        private Executor executor;
+        private int capacity = DEFAULT_CAPACITY;
+        private Overflow overflow = Overflow.DROP_OLDEST;
+
+        /**
+         * Prevents direct instantiation.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets the executor which passes the updates to the subscription callbacks.
+         */
+        @CanIgnoreReturnValue
+        public Builder setExecutor(Executor executor) {
+            this.executor = checkNotNull(executor);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of the updates queued for a single subscription.
+         *
+         * <p>The default value is {@value #DEFAULT_CAPACITY}.
+         */
+        @CanIgnoreReturnValue
+        public Builder setCapacity(int capacity) {
+            checkArgument(capacity > 0, "The queue capacity must be positive.");
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets the policy of handling the updates which do not fit into the queue.
+         *
+         * <p>The default policy is {@link Overflow#DROP_OLDEST DROP_OLDEST}.
+         */
+        @CanIgnoreReturnValue
+        public Builder setOverflow(Overflow overflow) {
+            this.overflow = checkNotNull(overflow);
+            return this;
+        }
+
+        /**
+         * Creates a new instance of {@code UpdateDelivery}.
+         *
+         * @throws IllegalStateException
+         *         if the executor is not set
+         */
+        public UpdateDelivery build() {
+            checkState(executor != null, "The delivery executor is not set.");
+            return new UpdateDelivery(this);
+        }
+    }
+}
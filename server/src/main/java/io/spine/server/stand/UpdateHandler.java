@@ -76,7 +76,7 @@ abstract class UpdateHandler implements Logging {
      * Ensures that the handler is active, otherwise throws {@link IllegalStateException} with
      * the information on the passed event.
      */
-    private void checkActive(EventEnvelope event) {
+    final void checkActive(EventEnvelope event) {
         if (!isActive()) {
             throw newIllegalStateException(
                     "Dispatched an event of type `%s` to the non-active subscription with the ID `%s`.",
@@ -87,7 +87,10 @@ abstract class UpdateHandler implements Logging {
         }
     }
 
-    private void deliverUpdate(SubscriptionUpdate update) {
+    /**
+     * Notifies the read-side about the passed update.
+     */
+    final void deliverUpdate(SubscriptionUpdate update) {
         try {
             callback.accept(update);
         } catch (Throwable t) {
@@ -152,6 +155,20 @@ abstract class UpdateHandler implements Logging {
             return true;
         }
         Any id = extractId(event);
+        return idMatches(id);
+    }
+
+    /**
+     * Checks if the passed ID matches the subscription ID filter.
+     */
+    final boolean idMatches(Any id) {
+        IdFilter idFilter = target().getFilters()
+                                    .getIdFilter();
+        boolean idFilterSet = !IdFilter.getDefaultInstance()
+                                       .equals(idFilter);
+        if (!idFilterSet) {
+            return true;
+        }
         boolean result = idFilter.getIdList()
                                  .contains(id);
         return result;
@@ -28,6 +28,7 @@ import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
 import io.spine.base.Identifier;
 import io.spine.client.ResponseFormat;
+import io.spine.core.Version;
 import io.spine.protobuf.AnyPacker;
 import io.spine.server.entity.Entity;
 import io.spine.server.entity.EntityRecord;
@@ -109,6 +110,10 @@ public abstract class RecordStorage<I>
         if (!rawResult.isPresent()) {
             return Optional.empty();
         }
+        if (fieldMask.getPathsList()
+                     .isEmpty()) {
+            return rawResult;
+        }
 
         EntityRecord.Builder builder = EntityRecord.newBuilder(rawResult.get());
         Any state = builder.getState();
@@ -168,6 +173,24 @@ public abstract class RecordStorage<I>
         writeRecords(records);
     }
 
+    /**
+     * Reads the version of the record with the passed ID.
+     *
+     * <p>By default, reads the whole record. The storages able to read the version alone,
+     * e.g. from the {@linkplain VersionField#version version} column,
+     * should override this method.
+     *
+     * @param id
+     *         the ID of the record
+     * @return the version of the record or {@code Optional.empty()} if there is no record
+     *         with this ID
+     */
+    public Optional<Version> readVersion(I id) {
+        checkNotClosed();
+        checkNotNull(id);
+        return readRecord(id).map(EntityRecord::getVersion);
+    }
+
     @Override
     public Optional<LifecycleFlags> readLifecycleFlags(I id) {
         RecordReadRequest<I> request = new RecordReadRequest<>(id);
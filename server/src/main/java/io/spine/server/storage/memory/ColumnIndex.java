@@ -0,0 +1,257 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.memory;
+
+import com.google.common.primitives.Primitives;
+import com.google.protobuf.Any;
+import com.google.protobuf.Timestamp;
+import io.spine.client.Filter;
+import io.spine.client.Filter.Operator;
+import io.spine.server.entity.storage.Column;
+import io.spine.server.entity.storage.ColumnName;
+import io.spine.server.entity.storage.EntityRecordWithColumns;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.protobuf.TypeConverter.toObject;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * An index of the records of {@link TenantRecords} by the value of a column.
+ *
+ * <p>Allows to find the records which may match a filter on the column without scanning
+ * all the records.
+ *
+ * <p>The values of a column of a {@link Comparable} type or of the {@link Timestamp} type are
+ * kept sorted, so the index serves both the equality and the comparison filters. The values of
+ * the other types are hashed, so the index serves only the equality filters.
+ *
+ * <p>The index only narrows the set of the records to check. The found records are still
+ * matched against the query, so the records which the index cannot classify are always found.
+ *
+ * <p>The index is not thread-safe. {@link TenantRecords} updates it only under the write lock
+ * of the records and reads it under the read lock.
+ *
+ * @param <I>
+ *         the type of the IDs of the records
+ */
+final class ColumnIndex<I> {
+
+    private static final Comparator<Timestamp> TIMESTAMP_ORDER =
+            Comparator.comparingLong(Timestamp::getSeconds)
+                      .thenComparingInt(Timestamp::getNanos);
+
+    private final ColumnName column;
+    private final Class<?> valueType;
+
+    /**
+     * The IDs of the records by the value of the column.
+     *
+     * <p>Is a {@link NavigableMap} if the values of the column are ordered.
+     */
+    private final Map<Object, Set<I>> idsByValue;
+
+    /**
+     * The IDs of the records which have the column value of a type other than
+     * the type of the column.
+     */
+    private final Set<I> unclassified = new HashSet<>();
+
+    private ColumnIndex(ColumnName column, Class<?> valueType, Map<Object, Set<I>> idsByValue) {
+        this.column = column;
+        this.valueType = valueType;
+        this.idsByValue = idsByValue;
+    }
+
+    /**
+     * Creates an empty index of the values of the passed column.
+     */
+    static <I> ColumnIndex<I> of(Column column) {
+        checkNotNull(column);
+        Class<?> valueType = valueType(column);
+        Map<Object, Set<I>> idsByValue;
+        if (valueType == Timestamp.class) {
+            idsByValue = new TreeMap<>(timestampOrder());
+        } else if (isOrdered(valueType)) {
+            idsByValue = new TreeMap<>();
+        } else {
+            idsByValue = new HashMap<>();
+        }
+        return new ColumnIndex<>(column.name(), valueType, idsByValue);
+    }
+
+    private static Class<?> valueType(Column column) {
+        return Primitives.wrap(column.type());
+    }
+
+    private static boolean isOrdered(Class<?> valueType) {
+        return valueType == Timestamp.class || Comparable.class.isAssignableFrom(valueType);
+    }
+
+    @SuppressWarnings("unchecked")  // Only `Timestamp` values are put into the map.
+    private static Comparator<Object> timestampOrder() {
+        Comparator<?> comparator = TIMESTAMP_ORDER;
+        return (Comparator<Object>) comparator;
+    }
+
+    /**
+     * Adds the record with the passed ID to the index.
+     */
+    void add(I id, EntityRecordWithColumns record) {
+        if (!record.hasColumn(column)) {
+            return;
+        }
+        @Nullable Object value = record.columnValue(column);
+        if (value == null) {
+            return;
+        }
+        if (value.getClass() == valueType) {
+            idsByValue.computeIfAbsent(value, v -> new HashSet<>())
+                      .add(id);
+        } else {
+            unclassified.add(id);
+        }
+    }
+
+    /**
+     * Removes the record with the passed ID from the index.
+     */
+    void remove(I id, EntityRecordWithColumns record) {
+        if (!record.hasColumn(column)) {
+            return;
+        }
+        @Nullable Object value = record.columnValue(column);
+        if (value == null) {
+            return;
+        }
+        if (value.getClass() == valueType) {
+            Set<I> ids = idsByValue.get(value);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    idsByValue.remove(value);
+                }
+            }
+        } else {
+            unclassified.remove(id);
+        }
+    }
+
+    /**
+     * Tells if an index of the passed column can find the records matching the passed filter.
+     *
+     * <p>Allows to check the filter before building the index.
+     */
+    static boolean supports(Column column, Filter filter) {
+        checkNotNull(column);
+        checkNotNull(filter);
+        Class<?> valueType = valueType(column);
+        Operator operator = filter.getOperator();
+        boolean supportedOperator = operator == Operator.EQUAL
+                || (isOrdered(valueType) && isComparison(operator));
+        if (!supportedOperator) {
+            return false;
+        }
+        Object value = filterValue(filter, valueType);
+        return value.getClass() == valueType;
+    }
+
+    private static boolean isComparison(Operator operator) {
+        return operator == Operator.GREATER_THAN
+                || operator == Operator.GREATER_OR_EQUAL
+                || operator == Operator.LESS_THAN
+                || operator == Operator.LESS_OR_EQUAL;
+    }
+
+    /**
+     * Counts the records which may match the passed filter.
+     *
+     * <p>The filter must be {@linkplain #supports(Column, Filter) supported} by the index.
+     */
+    int count(Filter filter) {
+        int result = unclassified.size();
+        for (Set<I> ids : matching(filter)) {
+            result += ids.size();
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the IDs of the records which may match the passed filter.
+     *
+     * <p>The filter must be {@linkplain #supports(Column, Filter) supported} by the index.
+     */
+    Set<I> find(Filter filter) {
+        Set<I> result = new HashSet<>(unclassified);
+        for (Set<I> ids : matching(filter)) {
+            result.addAll(ids);
+        }
+        return result;
+    }
+
+    private Collection<Set<I>> matching(Filter filter) {
+        Object value = filterValue(filter, valueType);
+        Operator operator = filter.getOperator();
+        if (operator == Operator.EQUAL) {
+            Set<I> ids = idsByValue.get(value);
+            return ids == null
+                   ? Collections.emptySet()
+                   : Collections.singleton(ids);
+        }
+        NavigableMap<Object, Set<I>> sorted = (NavigableMap<Object, Set<I>>) idsByValue;
+        switch (operator) {
+            case GREATER_THAN:
+                return sorted.tailMap(value, false)
+                             .values();
+            case GREATER_OR_EQUAL:
+                return sorted.tailMap(value, true)
+                             .values();
+            case LESS_THAN:
+                return sorted.headMap(value, false)
+                             .values();
+            case LESS_OR_EQUAL:
+                return sorted.headMap(value, true)
+                             .values();
+            default:
+                throw newIllegalArgumentException(
+                        "The index of the column `%s` does not support the operator `%s`.",
+                        column, operator);
+        }
+    }
+
+    private static Object filterValue(Filter filter, Class<?> valueType) {
+        Any value = filter.getValue();
+        if (valueType == Any.class) {
+            return value;
+        }
+        return toObject(value, valueType);
+    }
+}
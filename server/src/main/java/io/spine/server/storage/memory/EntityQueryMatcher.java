@@ -20,12 +20,13 @@
 
 package io.spine.server.storage.memory;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Multimap;
 import com.google.protobuf.Any;
 import io.spine.base.Identifier;
 import io.spine.client.CompositeFilter.CompositeOperator;
 import io.spine.client.Filter;
+import io.spine.client.OperatorEvaluator;
 import io.spine.server.entity.storage.Column;
 import io.spine.server.entity.storage.ColumnName;
 import io.spine.server.entity.storage.CompositeQueryParameter;
@@ -34,12 +35,13 @@ import io.spine.server.entity.storage.EntityRecordWithColumns;
 import io.spine.server.entity.storage.QueryParameters;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static io.spine.client.OperatorEvaluator.eval;
+import static com.google.common.base.Suppliers.memoize;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.spine.protobuf.TypeConverter.toObject;
 import static io.spine.util.Exceptions.newIllegalArgumentException;
 import static java.util.stream.Collectors.toSet;
@@ -48,6 +50,10 @@ import static java.util.stream.Collectors.toSet;
  * A {@link Predicate} on the {@link EntityRecordWithColumns} matching it upon the given
  * {@link EntityQuery}.
  *
+ * <p>The query parameters are compiled into a tree of predicates once, when the matcher is
+ * created. The filter values are converted to the column types and the comparisons are
+ * specialized for them on the first use, and then are reused for all the matched records.
+ *
  * @param <I>
  *         the type of the IDs of the matched records
  * @see EntityQuery for the matching contract
@@ -55,7 +61,7 @@ import static java.util.stream.Collectors.toSet;
 final class EntityQueryMatcher<I> implements Predicate<@Nullable EntityRecordWithColumns> {
 
     private final Set<Any> acceptedIds;
-    private final QueryParameters queryParams;
+    private final ImmutableList<Predicate<EntityRecordWithColumns>> parameters;
 
     EntityQueryMatcher(EntityQuery<I> query) {
         checkNotNull(query);
@@ -66,7 +72,7 @@ final class EntityQueryMatcher<I> implements Predicate<@Nullable EntityRecordWit
                            : ids.stream()
                                 .map(Identifier::pack)
                                 .collect(toSet());
-        this.queryParams = query.getParameters();
+        this.parameters = compile(query.getParameters());
     }
 
     @Override
@@ -88,93 +94,113 @@ final class EntityQueryMatcher<I> implements Predicate<@Nullable EntityRecordWit
         return true;
     }
 
-    @SuppressWarnings("EnumSwitchStatementWhichMissesCases") // Only valuable cases covered
     private boolean columnValuesMatch(EntityRecordWithColumns record) {
-        boolean match;
-        for (CompositeQueryParameter filter : queryParams) {
-            CompositeOperator operator = filter.operator();
-            switch (operator) {
-                case ALL:
-                    match = checkAll(filter.filters(), record);
-                    break;
-                case EITHER:
-                    match = checkEither(filter.filters(), record);
-                    break;
-                default:
-                    throw newIllegalArgumentException("Composite operator %s is invalid.",
-                                                      operator);
-            }
-            if (!match) {
+        for (Predicate<EntityRecordWithColumns> parameter : parameters) {
+            if (!parameter.test(record)) {
                 return false;
             }
         }
         return true;
     }
 
-    private static boolean checkAll(Multimap<Column, Filter> filters,
+    private static ImmutableList<Predicate<EntityRecordWithColumns>>
+    compile(QueryParameters queryParams) {
+        ImmutableList.Builder<Predicate<EntityRecordWithColumns>> result =
+                ImmutableList.builder();
+        for (CompositeQueryParameter parameter : queryParams) {
+            result.add(compile(parameter));
+        }
+        return result.build();
+    }
+
+    @SuppressWarnings("EnumSwitchStatementWhichMissesCases") // Only valuable cases covered
+    private static Predicate<EntityRecordWithColumns> compile(CompositeQueryParameter parameter) {
+        CompositeOperator operator = parameter.operator();
+        ImmutableList<ColumnFilter> filters =
+                parameter.filters()
+                         .entries()
+                         .stream()
+                         .map(filter -> new ColumnFilter(filter.getKey(), filter.getValue()))
+                         .collect(toImmutableList());
+        switch (operator) {
+            case ALL:
+                return record -> checkAll(filters, record);
+            case EITHER:
+                return record -> checkEither(filters, record);
+            default:
+                return record -> {
+                    throw newIllegalArgumentException("Composite operator %s is invalid.",
+                                                      operator);
+                };
+        }
+    }
+
+    private static boolean checkAll(ImmutableList<ColumnFilter> filters,
                                     EntityRecordWithColumns record) {
-        if (filters.isEmpty()) {
-            return true;
+        for (ColumnFilter filter : filters) {
+            if (!filter.test(record)) {
+                return false;
+            }
         }
-        boolean result =
-                filters.entries()
-                       .stream()
-                       .allMatch(filter -> matches(record, filter));
-        return result;
+        return true;
     }
 
-    private static boolean checkEither(Multimap<Column, Filter> filters,
+    private static boolean checkEither(ImmutableList<ColumnFilter> filters,
                                        EntityRecordWithColumns record) {
         if (filters.isEmpty()) {
             return true;
         }
-        boolean result =
-                filters.entries()
-                       .stream()
-                       .anyMatch(filter -> matches(record, filter));
-        return result;
-    }
-
-    private static boolean matches(EntityRecordWithColumns record,
-                                   Map.Entry<Column, Filter> filter) {
-        if (!hasColumn(record, filter)) {
-            return false;
+        for (ColumnFilter filter : filters) {
+            if (filter.test(record)) {
+                return true;
+            }
         }
-        Column column = filter.getKey();
-        @Nullable Object columnValue = columnValue(record, column);
-        boolean result = checkSingleParameter(filter.getValue(), columnValue, column);
-        return result;
+        return false;
     }
 
-    private static boolean hasColumn(EntityRecordWithColumns record,
-                                     Map.Entry<Column, Filter> filter) {
-        boolean result = record.hasColumn(filter.getKey()
-                                                .name());
-        return result;
-    }
+    /**
+     * A filter on the value of a single column.
+     */
+    private static final class ColumnFilter implements Predicate<EntityRecordWithColumns> {
 
-    private static boolean checkSingleParameter(Filter filter,
-                                                @Nullable Object actualValue,
-                                                Column column) {
-        if (actualValue == null) {
-            return false;
+        private final ColumnName column;
+
+        /**
+         * The comparison of the column value to the filter value.
+         *
+         * <p>Is compiled on the first use, so that a query which does not check any record
+         * does not convert the filter value.
+         */
+        private final Supplier<Predicate<@Nullable Object>> comparison;
+
+        private ColumnFilter(Column column, Filter filter) {
+            this.column = column.name();
+            this.comparison = memoize(() -> compile(column, filter));
         }
-        Object filterValue;
-        Any wrappedValue = filter.getValue();
-        Class<?> sourceClass = column.type();
-        if (sourceClass != Any.class) {
-            filterValue = toObject(wrappedValue, sourceClass);
-        } else {
-            filterValue = wrappedValue;
+
+        private static Predicate<@Nullable Object> compile(Column column, Filter filter) {
+            Object filterValue;
+            Any wrappedValue = filter.getValue();
+            Class<?> sourceClass = column.type();
+            if (sourceClass != Any.class) {
+                filterValue = toObject(wrappedValue, sourceClass);
+            } else {
+                filterValue = wrappedValue;
+            }
+            return OperatorEvaluator.compile(filter.getOperator(), filterValue);
         }
-        boolean result = eval(actualValue, filter.getOperator(), filterValue);
-        return result;
-    }
 
-    private static @Nullable Object columnValue(EntityRecordWithColumns record,
-                                                Column column) {
-        ColumnName columnName = column.name();
-        Object value = record.columnValue(columnName);
-        return value;
+        @Override
+        public boolean test(EntityRecordWithColumns record) {
+            if (!record.hasColumn(column)) {
+                return false;
+            }
+            @Nullable Object value = record.columnValue(column);
+            if (value == null) {
+                return false;
+            }
+            return comparison.get()
+                             .test(value);
+        }
     }
 }
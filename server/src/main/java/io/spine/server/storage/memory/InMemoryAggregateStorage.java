@@ -92,11 +92,28 @@ final class InMemoryAggregateStorage<I> extends AggregateStorage<I> {
         return records.iterator();
     }
 
+    @Override
+    protected Iterator<AggregateEventRecord>
+    historySinceLatestSnapshot(AggregateReadRequest<I> request) {
+        checkNotNull(request);
+        return getStorage().historySinceLatestSnapshot(request);
+    }
+
     @Override
     protected void truncate(int snapshotIndex) {
         getStorage().truncateOlderThan(snapshotIndex);
     }
 
+    @Override
+    protected void truncate(I id, int snapshotIndex) {
+        getStorage().truncateOlderThan(id, snapshotIndex);
+    }
+
+    @Override
+    protected boolean truncatesSingleAggregate() {
+        return true;
+    }
+
     @Override
     protected void truncate(int snapshotIndex, Timestamp date) {
         getStorage().truncateOlderThan(snapshotIndex, date);
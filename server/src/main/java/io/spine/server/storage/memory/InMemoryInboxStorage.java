@@ -25,9 +25,7 @@ import com.google.common.collect.ImmutableList;
 import io.spine.logging.Logging;
 import io.spine.server.delivery.Inbox;
 import io.spine.server.delivery.InboxMessage;
-import io.spine.server.delivery.InboxMessageComparator;
 import io.spine.server.delivery.InboxMessageId;
-import io.spine.server.delivery.InboxMessageStatus;
 import io.spine.server.delivery.InboxReadRequest;
 import io.spine.server.delivery.InboxStorage;
 import io.spine.server.delivery.Page;
@@ -35,12 +33,7 @@ import io.spine.server.delivery.ShardIndex;
 import io.spine.server.storage.AbstractStorage;
 
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
-
-import static com.google.common.collect.ImmutableList.toImmutableList;
-import static java.util.stream.Collectors.groupingBy;
 
 /**
  * In-memory implementation of messages stored in {@link Inbox Inbox}.
@@ -69,35 +62,17 @@ public final class InMemoryInboxStorage
     @Override
     public Page<InboxMessage> readAll(ShardIndex index, int pageSize) {
         TenantInboxRecords storage = multitenantStorage.currentSlice();
-
-        AtomicInteger counter = new AtomicInteger();
-        Map<Integer, ImmutableList<InboxMessage>> pages =
-                storage.readAll()
-                       .stream()
-                       .filter((r) -> index.equals(r.shardIndex()))
-                       .sorted(InboxMessageComparator.chronologically)
-                       .collect(groupingBy(m -> counter.getAndIncrement() / pageSize,
-                                           toImmutableList()));
-
-        PageByNumber supplier = number -> Optional.ofNullable(pages.get(number));
-        return new InMemoryPage(0, supplier);
+        ImmutableList<InboxMessage> contents = storage.read(index, null, pageSize);
+        return new InMemoryPage(storage, index, pageSize, contents);
     }
 
     @Override
     public Optional<InboxMessage> newestMessageToDeliver(ShardIndex index) {
         TenantInboxRecords storage = multitenantStorage.currentSlice();
-        Optional<InboxMessage> result =
-                storage.readAll()
-                       .stream()
-                       .filter((r) -> index.equals(r.shardIndex()) && isToDeliver(r))
-                       .min(InboxMessageComparator.chronologically);
+        Optional<InboxMessage> result = storage.firstToDeliver(index);
         return result;
     }
 
-    private static boolean isToDeliver(InboxMessage r) {
-        return r.getStatus() == InboxMessageStatus.TO_DELIVER;
-    }
-
     @Override
     public synchronized void write(InboxMessage message) {
         multitenantStorage.currentSlice()
@@ -139,43 +114,48 @@ public final class InMemoryInboxStorage
 
     /**
      * An in-memory implementation of a page of messages read from the {@code InboxStorage}.
+     *
+     * <p>The contents of the next page are read only when {@link #next()} is called,
+     * starting right after the last message of this page.
      */
     private static final class InMemoryPage implements Page<InboxMessage> {
 
-        private final int pageNumber;
-        private final PageByNumber pageSupplier;
-
-        private InMemoryPage(int number, PageByNumber supplier) {
-            this.pageNumber = number;
-            this.pageSupplier = supplier;
+        private final TenantInboxRecords storage;
+        private final ShardIndex index;
+        private final int pageSize;
+        private final ImmutableList<InboxMessage> contents;
+
+        private InMemoryPage(TenantInboxRecords storage,
+                             ShardIndex index,
+                             int pageSize,
+                             ImmutableList<InboxMessage> contents) {
+            this.storage = storage;
+            this.index = index;
+            this.pageSize = pageSize;
+            this.contents = contents;
         }
 
         @Override
         public ImmutableList<InboxMessage> contents() {
-            return pageSupplier.getBy(pageNumber)
-                               .orElse(ImmutableList.of());
+            return contents;
         }
 
         @Override
         public int size() {
-            return contents().size();
+            return contents.size();
         }
 
         @Override
         public Optional<Page<InboxMessage>> next() {
-            int nextNumber = pageNumber + 1;
-            Optional<Page<InboxMessage>> result =
-                    pageSupplier.getBy(nextNumber)
-                                .map(l -> new InMemoryPage(nextNumber, pageSupplier));
-            return result;
+            if (contents.size() < pageSize) {
+                return Optional.empty();
+            }
+            InboxMessage last = contents.get(contents.size() - 1);
+            ImmutableList<InboxMessage> nextContents = storage.read(index, last, pageSize);
+            if (nextContents.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(new InMemoryPage(storage, index, pageSize, nextContents));
         }
     }
-
-    /**
-     * Supplies the contents of the {@linkplain InMemoryPage page} by its number.
-     */
-    private interface PageByNumber {
-
-        Optional<ImmutableList<InboxMessage>> getBy(int number);
-    }
 }
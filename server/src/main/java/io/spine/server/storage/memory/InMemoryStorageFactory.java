@@ -28,6 +28,8 @@ import io.spine.server.delivery.CatchUpStorage;
 import io.spine.server.delivery.InboxStorage;
 import io.spine.server.entity.Entity;
 import io.spine.server.entity.model.EntityClass;
+import io.spine.server.event.EventStore;
+import io.spine.server.event.store.InMemoryEventStore;
 import io.spine.server.projection.Projection;
 import io.spine.server.projection.ProjectionStorage;
 import io.spine.server.storage.RecordStorage;
@@ -90,6 +92,17 @@ public final class InMemoryStorageFactory implements StorageFactory {
         return new InMemoryCatchUpStorage(multitenant);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Creates an {@link InMemoryEventStore}, which indexes the events by their time, type
+     * and producer.
+     */
+    @Override
+    public EventStore createEventStore(ContextSpec context) {
+        return new InMemoryEventStore(context.isMultitenant());
+    }
+
     /**
      * Obtains storage specification for the passed entity class.
      */
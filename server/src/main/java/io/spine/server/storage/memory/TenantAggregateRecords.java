@@ -21,9 +21,6 @@
 package io.spine.server.storage.memory;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.TreeMultimap;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Timestamps;
 import io.spine.core.Event;
@@ -34,31 +31,39 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.Serializable;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.function.Predicate;
 
-import static com.google.common.collect.Multimaps.synchronizedSortedSetMultimap;
+import static com.google.common.collect.Iterators.unmodifiableIterator;
+import static com.google.common.collect.Maps.newConcurrentMap;
 import static io.spine.protobuf.Messages.isDefault;
 import static io.spine.util.Exceptions.unsupported;
+import static java.util.Collections.emptyIterator;
 
 /**
  * The events for for a tenant.
  *
+ * <p>The history of each aggregate is stored separately in a concurrent sorted set. Therefore,
+ * the reads and writes of the different aggregates never contend with each other.
+ *
+ * <p>For each aggregate, the latest snapshot is remembered, so that the records required
+ * to restore the aggregate can be read without traversing the whole history.
+ *
  * @param <I> the type of IDs of aggregates managed by this storage
  */
 final class TenantAggregateRecords<I> implements TenantStorage<I, AggregateEventRecord> {
 
-    private final Multimap<I, AggregateEventRecord> records = synchronizedSortedSetMultimap(
-            TreeMultimap.create(
-                    new AggregateStorageKeyComparator<>(), // key comparator
-                    new AggregateStorageRecordReverseComparator() // value comparator
-            ));
+    private static final AggregateStorageRecordReverseComparator newerFirst =
+            new AggregateStorageRecordReverseComparator();
+
+    private final Map<I, History> records = newConcurrentMap();
 
-    private final Map<I, LifecycleFlags> statuses = new HashMap<>();
+    private final Map<I, LifecycleFlags> statuses = newConcurrentMap();
 
     @Override
     public Iterator<I> index() {
@@ -86,7 +91,28 @@ final class TenantAggregateRecords<I> implements TenantStorage<I, AggregateEvent
      */
     List<AggregateEventRecord> historyBackward(AggregateReadRequest<I> request) {
         I id = request.recordId();
-        return ImmutableList.copyOf(records.get(id));
+        History history = records.get(id);
+        if (history == null) {
+            return ImmutableList.of();
+        }
+        return ImmutableList.copyOf(history.records);
+    }
+
+    /**
+     * Obtains aggregate events in the reverse historical order, ending with the latest snapshot.
+     *
+     * <p>The records are not copied. Instead, they are traversed lazily by the returned iterator.
+     *
+     * @return an unmodifiable iterator over the records
+     */
+    Iterator<AggregateEventRecord> historySinceLatestSnapshot(AggregateReadRequest<I> request) {
+        I id = request.recordId();
+        History history = records.get(id);
+        if (history == null) {
+            return emptyIterator();
+        }
+        return unmodifiableIterator(history.sinceLatestSnapshot()
+                                           .iterator());
     }
 
     /**
@@ -100,11 +126,12 @@ final class TenantAggregateRecords<I> implements TenantStorage<I, AggregateEvent
     }
 
     @Override
-    public synchronized void put(I id, AggregateEventRecord record) {
-        records.put(id, record);
+    public void put(I id, AggregateEventRecord record) {
+        records.computeIfAbsent(id, i -> new History())
+               .add(record);
     }
 
-    synchronized void putStatus(I id, LifecycleFlags status) {
+    void putStatus(I id, LifecycleFlags status) {
         statuses.put(id, status);
     }
 
@@ -122,6 +149,18 @@ final class TenantAggregateRecords<I> implements TenantStorage<I, AggregateEvent
         truncate(snapshotIndex, record -> true);
     }
 
+    /**
+     * Drops all records that are older than the Nth snapshot of the given entity.
+     *
+     * @see io.spine.server.aggregate.AggregateStorage#truncateOlderThan(Object, int)
+     */
+    void truncateOlderThan(I id, int snapshotIndex) {
+        History history = records.get(id);
+        if (history != null) {
+            truncate(history, snapshotIndex, record -> true);
+        }
+    }
+
     /**
      * Drops all records older than {@code date} but not newer than the Nth snapshot for each
      * entity.
@@ -137,20 +176,24 @@ final class TenantAggregateRecords<I> implements TenantStorage<I, AggregateEvent
     /**
      * Drops the records that are preceding the specified snapshot and match the specified
      * {@code Predicate}.
+     *
+     * <p>Each aggregate history is truncated separately, without blocking the operations
+     * on other aggregates.
      */
-    private synchronized void
-    truncate(int snapshotIndex, Predicate<AggregateEventRecord> predicate) {
-        ImmutableSet.copyOf(records.keySet())
-                    .forEach(id -> truncate(id, snapshotIndex, predicate));
+    private void truncate(int snapshotIndex, Predicate<AggregateEventRecord> predicate) {
+        records.values()
+               .forEach(history -> truncate(history, snapshotIndex, predicate));
     }
 
-    private void
-    truncate(I id, int snapshotIndex, Predicate<AggregateEventRecord> predicate) {
-        ImmutableList<AggregateEventRecord> recordsCopy = ImmutableList.copyOf(records.get(id));
+    private static void truncate(History history,
+                                 int snapshotIndex,
+                                 Predicate<AggregateEventRecord> predicate) {
         int snapshotsHit = 0;
-        for (AggregateEventRecord record : recordsCopy) {
+        for (Iterator<AggregateEventRecord> iterator = history.records.iterator();
+             iterator.hasNext(); ) {
+            AggregateEventRecord record = iterator.next();
             if (snapshotsHit > snapshotIndex && predicate.test(record)) {
-                this.records.remove(id, record);
+                iterator.remove();
             }
             if (record.hasSnapshot()) {
                 snapshotsHit++;
@@ -158,24 +201,42 @@ final class TenantAggregateRecords<I> implements TenantStorage<I, AggregateEvent
         }
     }
 
-    /** Used for sorting keys by the key hash codes. */
-    private static class AggregateStorageKeyComparator<K> implements Comparator<K>, Serializable {
+    /**
+     * The records of a single aggregate, sorted from newer to older.
+     */
+    private static final class History {
 
-        private static final long serialVersionUID = 0L;
+        private final NavigableSet<AggregateEventRecord> records =
+                new ConcurrentSkipListSet<>(newerFirst);
 
-        @Override
-        public int compare(K first, K second) {
-            int result = 0;
-            if (first.equals(second)) {
-                return result;
-            }
+        /**
+         * The latest snapshot among the {@code records}.
+         *
+         * <p>As the truncation never drops the latest snapshot, it remains valid
+         * once it is set.
+         */
+        private volatile @Nullable AggregateEventRecord latestSnapshot;
 
-            // To define an order:
-            int firstHashCode = first.hashCode();
-            int secondHashCode = second.hashCode();
+        private synchronized void add(AggregateEventRecord record) {
+            records.add(record);
+            if (record.hasSnapshot()) {
+                AggregateEventRecord latest = latestSnapshot;
+                if (latest == null || newerFirst.compare(record, latest) < 0) {
+                    latestSnapshot = record;
+                }
+            }
+        }
 
-            result = Integer.compare(firstHashCode, secondHashCode);
-            return result;
+        /**
+         * Obtains the records newer than the latest snapshot along with the snapshot itself.
+         *
+         * <p>If there are no snapshots, returns all the records.
+         */
+        private NavigableSet<AggregateEventRecord> sinceLatestSnapshot() {
+            AggregateEventRecord snapshot = latestSnapshot;
+            return snapshot == null
+                   ? records
+                   : records.headSet(snapshot, true);
         }
     }
 
@@ -20,31 +20,42 @@
 
 package io.spine.server.storage.memory;
 
-import com.google.common.collect.ImmutableSortedSet;
-import com.google.protobuf.Timestamp;
-import com.google.protobuf.util.Timestamps;
+import com.google.common.collect.ImmutableList;
 import io.spine.server.delivery.Inbox;
 import io.spine.server.delivery.InboxMessage;
 import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.delivery.InboxMessageStatus;
+import io.spine.server.delivery.ShardIndex;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.io.Serializable;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Objects;
+import java.util.NavigableSet;
 import java.util.Optional;
-import java.util.SortedSet;
+import java.util.concurrent.ConcurrentSkipListSet;
 
-import static java.util.Collections.synchronizedMap;
+import static com.google.common.collect.Maps.newConcurrentMap;
+import static io.spine.server.delivery.InboxMessageComparator.chronologically;
 
 /**
  * The memory-based storage for {@link io.spine.server.delivery.InboxMessage InboxMessage}s
  * that represents all storage operations available for inbox data of a single tenant.
+ *
+ * <p>Apart from the lookup by ID, the records are indexed by their {@linkplain ShardIndex shard}.
+ * Each shard keeps its messages in a
+ * {@linkplain io.spine.server.delivery.InboxMessageComparator#chronologically chronological}
+ * order, so that reading the shard contents does not require any sorting.
+ * The messages {@linkplain InboxMessageStatus#TO_DELIVER to deliver} are additionally kept
+ * in a separate ordered set per shard.
+ *
+ * <p>The modifying operations are expected to be called by a single writer at a time,
+ * as {@link InMemoryInboxStorage} does. The read operations are safe to be performed
+ * concurrently with the writes.
  */
 final class TenantInboxRecords implements TenantStorage<InboxMessageId, InboxMessage> {
 
-    private final Map<InboxMessageId, InboxMessage> records = synchronizedMap(new HashMap<>());
+    private final Map<InboxMessageId, InboxMessage> records = newConcurrentMap();
+    private final Map<ShardIndex, ShardRecords> shards = newConcurrentMap();
 
     @Override
     public Iterator<InboxMessageId> index() {
@@ -58,25 +69,80 @@ final class TenantInboxRecords implements TenantStorage<InboxMessageId, InboxMes
     }
 
     /**
-     * Obtains the contents of {@link Inbox Inbox} by its identifier.
+     * Reads the messages of the {@link Inbox Inbox} which belong to the given shard.
      *
-     * <p>Returns all messages, placing those received earlier first.
+     * <p>Returns at most {@code limit} messages, placing those received earlier first.
      *
-     * @return messages of the {@code Inbox}
+     * @param index
+     *         the index of the shard to read the messages from
+     * @param after
+     *         the message after which the reading should start, or {@code null} to read
+     *         from the very beginning of the shard
+     * @param limit
+     *         the maximum number of messages to read
+     * @return messages of the shard
+     */
+    ImmutableList<InboxMessage> read(ShardIndex index, @Nullable InboxMessage after, int limit) {
+        ShardRecords shard = shards.get(index);
+        if (shard == null) {
+            return ImmutableList.of();
+        }
+        NavigableSet<InboxMessage> source = after == null
+                                            ? shard.all
+                                            : shard.all.tailSet(after, false);
+        ImmutableList.Builder<InboxMessage> result = ImmutableList.builder();
+        int count = 0;
+        for (Iterator<InboxMessage> iterator = source.iterator();
+             iterator.hasNext() && count < limit; count++) {
+            result.add(iterator.next());
+        }
+        return result.build();
+    }
+
+    /**
+     * Obtains the oldest message to deliver in the given shard.
      */
-    public SortedSet<InboxMessage> readAll() {
-        ImmutableSortedSet<InboxMessage> result =
-                ImmutableSortedSet.copyOf(new InboxStorageRecordComparator(), records.values());
-        return result;
+    Optional<InboxMessage> firstToDeliver(ShardIndex index) {
+        ShardRecords shard = shards.get(index);
+        if (shard == null) {
+            return Optional.empty();
+        }
+        Iterator<InboxMessage> iterator = shard.toDeliver.iterator();
+        return iterator.hasNext()
+               ? Optional.of(iterator.next())
+               : Optional.empty();
     }
 
     @Override
     public void put(InboxMessageId id, InboxMessage record) {
-        records.put(id, record);
+        InboxMessage previous = records.put(id, record);
+        if (previous != null) {
+            unindex(previous);
+        }
+        ShardRecords shard = shards.computeIfAbsent(record.shardIndex(), i -> new ShardRecords());
+        shard.all.add(record);
+        if (isToDeliver(record)) {
+            shard.toDeliver.add(record);
+        }
     }
 
     public void remove(InboxMessage message) {
-        records.remove(message.getId());
+        InboxMessage previous = records.remove(message.getId());
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    private void unindex(InboxMessage message) {
+        ShardRecords shard = shards.get(message.shardIndex());
+        if (shard != null) {
+            shard.all.remove(message);
+            shard.toDeliver.remove(message);
+        }
+    }
+
+    private static boolean isToDeliver(InboxMessage message) {
+        return message.getStatus() == InboxMessageStatus.TO_DELIVER;
     }
 
     @Override
@@ -85,31 +151,13 @@ final class TenantInboxRecords implements TenantStorage<InboxMessageId, InboxMes
     }
 
     /**
-     * Comparator for the {@code InboxMessage}s that are stored in in-memory storage.
-     *
-     * <p>Defines the order of messages, placing the messages
-     * {@linkplain io.spine.server.delivery.InboxMessage#getWhenReceived() received earlier} on top.
+     * The messages of a single shard, ordered chronologically.
      */
-    static class InboxStorageRecordComparator implements Comparator<InboxMessage>, Serializable {
-
-        private static final long serialVersionUID = 0L;
-
-        @Override
-        public int compare(InboxMessage first, InboxMessage second) {
-            if (Objects.equals(first, second)) {
-                return 0;
-            }
-            Timestamp whenFirstReceived = first.getWhenReceived();
-            Timestamp whenSecondReceived = second.getWhenReceived();
-            int timeComparison = Timestamps.compare(whenFirstReceived, whenSecondReceived);
-            if (timeComparison != 0) {
-                return timeComparison;
-            }
-            int versionComparison = Integer.compare(first.getVersion(), second.getVersion());
-            if (versionComparison == 0) {
-                throw new IllegalStateException("Inbox record versions must not be equal.");
-            }
-            return versionComparison;
-        }
+    private static final class ShardRecords {
+
+        private final NavigableSet<InboxMessage> all =
+                new ConcurrentSkipListSet<>(chronologically);
+        private final NavigableSet<InboxMessage> toDeliver =
+                new ConcurrentSkipListSet<>(chronologically);
     }
 }
@@ -20,30 +20,44 @@
 
 package io.spine.server.storage.memory;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.Any;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
+import io.spine.client.Filter;
 import io.spine.client.ResponseFormat;
 import io.spine.server.entity.EntityRecord;
+import io.spine.server.entity.storage.Column;
+import io.spine.server.entity.storage.ColumnName;
+import io.spine.server.entity.storage.CompositeQueryParameter;
 import io.spine.server.entity.storage.EntityQuery;
 import io.spine.server.entity.storage.EntityRecordWithColumns;
+import io.spine.type.TypeUrl;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Maps.filterValues;
 import static com.google.common.collect.Maps.newConcurrentMap;
+import static io.spine.client.CompositeFilter.CompositeOperator.ALL;
 import static io.spine.protobuf.AnyPacker.pack;
 import static io.spine.protobuf.AnyPacker.unpack;
 import static io.spine.server.entity.FieldMasks.applyMask;
-import static io.spine.server.storage.memory.EntityRecordComparator.orderedBy;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -57,6 +71,25 @@ final class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns
             filterValues(records, r -> r != null && r.isActive());
     private static final EntityRecordUnpacker UNPACKER = EntityRecordUnpacker.INSTANCE;
 
+    /**
+     * The indexes of the records by the columns which were used in the queries.
+     *
+     * <p>An index is created on the first query which filters by its column in a way
+     * the index {@linkplain ColumnIndex#supports(Column, Filter) supports}.
+     *
+     * <p>Guarded by the {@link #lock}.
+     */
+    private final Map<ColumnName, ColumnIndex<I>> indexes = new HashMap<>();
+
+    /**
+     * Guards the {@link #indexes}.
+     *
+     * <p>The writes of the records and the creation of the indexes hold the write lock, so that
+     * the indexes are always updated along with the records. The queries served by
+     * the indexes hold the read lock and do not block each other.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
     @Override
     public Iterator<I> index() {
         Iterator<I> result = activeRecords.keySet()
@@ -66,7 +99,19 @@ final class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns
 
     @Override
     public void put(I id, EntityRecordWithColumns record) {
-        records.put(id, record);
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            EntityRecordWithColumns previous = records.put(id, record);
+            for (ColumnIndex<I> index : indexes.values()) {
+                if (previous != null) {
+                    index.remove(id, previous);
+                }
+                index.add(id, record);
+            }
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
@@ -76,7 +121,20 @@ final class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns
     }
 
     boolean delete(I id) {
-        return records.remove(id) != null;
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            EntityRecordWithColumns previous = records.remove(id);
+            if (previous == null) {
+                return false;
+            }
+            for (ColumnIndex<I> index : indexes.values()) {
+                index.remove(id, previous);
+            }
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     private Map<I, EntityRecordWithColumns> activeRecords() {
@@ -84,9 +142,7 @@ final class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns
     }
 
     Iterator<EntityRecord> readAll(ResponseFormat format) {
-        Stream<EntityRecordWithColumns> records = activeRecords()
-                .values()
-                .stream();
+        Collection<EntityRecordWithColumns> records = activeRecords().values();
         FieldMask fieldMask = format.getFieldMask();
         return orderAndLimit(records, format)
                 .map(UNPACKER)
@@ -106,19 +162,19 @@ final class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns
 
     private Stream<EntityRecordWithColumns>
     findRecords(EntityQuery<I> query, ResponseFormat format) {
-        Map<I, EntityRecordWithColumns> records = new HashMap<>(filterRecords(query));
-        Stream<EntityRecordWithColumns> stream = records.values()
-                                                        .stream();
-        return orderAndLimit(stream, format);
+        Collection<EntityRecordWithColumns> records = filterRecords(query);
+        return orderAndLimit(records, format);
     }
 
     private static Stream<EntityRecordWithColumns>
-    orderAndLimit(Stream<EntityRecordWithColumns> data, ResponseFormat format) {
-        Stream<EntityRecordWithColumns> stream = data;
+    orderAndLimit(Collection<EntityRecordWithColumns> records, ResponseFormat format) {
+        int limit = format.getLimit();
         if (format.hasOrderBy()) {
-            stream = stream.sorted(orderedBy(format.getOrderBy()));
+            List<EntityRecordWithColumns> ordered = TopRecords.of(format.getOrderBy(), limit)
+                                                              .select(records);
+            return ordered.stream();
         }
-        int limit = format.getLimit();
+        Stream<EntityRecordWithColumns> stream = records.stream();
         if (limit > 0) {
             stream = stream.limit(limit);
         }
@@ -128,10 +184,134 @@ final class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns
     /**
      * Filters the records returning only the ones matching the
      * {@linkplain EntityQuery entity query}.
+     *
+     * <p>If the query is narrowed by the IDs or by a column filter which can be served by
+     * a {@link ColumnIndex}, only the records found by the IDs or by the index are checked.
+     * Otherwise, all the records are scanned.
      */
-    private Map<I, EntityRecordWithColumns> filterRecords(EntityQuery<I> query) {
+    private Collection<EntityRecordWithColumns> filterRecords(EntityQuery<I> query) {
         EntityQueryMatcher<I> matcher = new EntityQueryMatcher<>(query);
-        return filterValues(records, matcher::test);
+        Optional<Set<I>> candidates = candidateIds(query);
+        if (!candidates.isPresent()) {
+            return new ArrayList<>(filterValues(records, matcher::test).values());
+        }
+        List<EntityRecordWithColumns> result = new ArrayList<>();
+        for (I id : candidates.get()) {
+            EntityRecordWithColumns record = records.get(id);
+            if (matcher.test(record)) {
+                result.add(record);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the IDs of the records which may match the passed query.
+     *
+     * <p>If the query lists the IDs, returns them. Otherwise, among the column filters which
+     * must hold for all the matching records and are supported by a {@link ColumnIndex},
+     * selects the one matching the fewest records and returns the IDs found by its index.
+     *
+     * @return the IDs of the candidate records or {@code Optional.empty()} if all the records
+     *         should be scanned
+     */
+    private Optional<Set<I>> candidateIds(EntityQuery<I> query) {
+        Set<I> ids = query.getIds();
+        if (!ids.isEmpty()) {
+            return Optional.of(ids);
+        }
+        List<Map.Entry<Column, Filter>> indexable = indexableFilters(query);
+        if (indexable.isEmpty()) {
+            return Optional.empty();
+        }
+        ensureIndexed(indexable);
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            ColumnIndex<I> bestIndex = null;
+            Filter bestFilter = null;
+            int bestCount = records.size();
+            for (Map.Entry<Column, Filter> entry : indexable) {
+                ColumnIndex<I> index = indexes.get(entry.getKey()
+                                                        .name());
+                Filter filter = entry.getValue();
+                int count = index.count(filter);
+                if (count < bestCount) {
+                    bestIndex = index;
+                    bestFilter = filter;
+                    bestCount = count;
+                }
+            }
+            if (bestIndex == null) {
+                return Optional.empty();
+            }
+            return Optional.of(bestIndex.find(bestFilter));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Obtains the column filters of the query which must hold for all the matching records
+     * and which can be served by a {@link ColumnIndex}.
+     */
+    private static List<Map.Entry<Column, Filter>> indexableFilters(EntityQuery<?> query) {
+        List<Map.Entry<Column, Filter>> result = new ArrayList<>();
+        for (CompositeQueryParameter parameter : query.getParameters()) {
+            if (parameter.operator() != ALL) {
+                continue;
+            }
+            for (Map.Entry<Column, Filter> entry : parameter.filters()
+                                                            .entries()) {
+                if (ColumnIndex.supports(entry.getKey(), entry.getValue())) {
+                    result.add(entry);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Makes sure the records are indexed by the columns of the passed filters.
+     *
+     * <p>Holds the write lock only if some of the indexes are yet to be created.
+     */
+    private void ensureIndexed(List<Map.Entry<Column, Filter>> filters) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            boolean allIndexed = filters.stream()
+                                        .allMatch(f -> indexes.containsKey(f.getKey()
+                                                                            .name()));
+            if (allIndexed) {
+                return;
+            }
+        } finally {
+            readLock.unlock();
+        }
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            for (Map.Entry<Column, Filter> filter : filters) {
+                Column column = filter.getKey();
+                indexes.computeIfAbsent(column.name(), name -> newIndex(column));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Creates the index of the records by the passed column.
+     *
+     * <p>Must be called while holding the write lock.
+     */
+    private ColumnIndex<I> newIndex(Column column) {
+        ColumnIndex<I> index = ColumnIndex.of(column);
+        for (Map.Entry<I, EntityRecordWithColumns> entry : records.entrySet()) {
+            index.add(entry.getKey(), entry.getValue());
+        }
+        return index;
     }
 
     @Nullable
@@ -141,11 +321,7 @@ final class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns
             return null;
         }
         EntityRecord record = recordWithColumns.record();
-        Any recordState = record.getState();
-        Any maskedState = new FieldMaskApplier(fieldMask).maskAny(recordState);
-        EntityRecord maskedRecord = record.toBuilder()
-                                          .setState(maskedState)
-                                          .build();
+        EntityRecord maskedRecord = new FieldMaskApplier(fieldMask).apply(record);
         return maskedRecord;
     }
 
@@ -160,19 +336,33 @@ final class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns
      *
      * <p>The resulting {@link EntityRecord} has the same fields as the given one except
      * the {@code state} field, which is masked.
+     *
+     * <p>If the mask is empty or it lists all the top-level fields of the state type,
+     * the record is returned as-is, without unpacking the state.
      */
     private static class FieldMaskApplier implements Function<EntityRecord, EntityRecord> {
 
         private final FieldMask fieldMask;
+        private final ImmutableSet<String> paths;
+
+        /**
+         * Tells if the mask retains all the fields of a state type, by the URL of the type.
+         */
+        private final Map<String, Boolean> retainsAll = new HashMap<>();
 
         private FieldMaskApplier(FieldMask fieldMask) {
             this.fieldMask = fieldMask;
+            this.paths = ImmutableSet.copyOf(fieldMask.getPathsList());
         }
 
         @Override
         public @Nullable EntityRecord apply(@Nullable EntityRecord input) {
             checkNotNull(input);
-            Any maskedState = maskAny(input.getState());
+            Any state = input.getState();
+            if (retainsAll(state)) {
+                return input;
+            }
+            Any maskedState = maskAny(state);
             EntityRecord result = EntityRecord
                     .newBuilder(input)
                     .setState(maskedState)
@@ -180,6 +370,24 @@ final class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns
             return result;
         }
 
+        private boolean retainsAll(Any state) {
+            if (paths.isEmpty()) {
+                return true;
+            }
+            return retainsAll.computeIfAbsent(state.getTypeUrl(), this::retainsAllFields);
+        }
+
+        private boolean retainsAllFields(String typeUrl) {
+            Descriptor descriptor = TypeUrl.parse(typeUrl)
+                                           .toTypeName()
+                                           .messageDescriptor();
+            boolean result = descriptor.getFields()
+                                       .stream()
+                                       .map(FieldDescriptor::getName)
+                                       .allMatch(paths::contains);
+            return result;
+        }
+
         private Any maskAny(Any message) {
             Message stateMessage = unpack(message);
             Message maskedMessage = applyMask(fieldMask, stateMessage);
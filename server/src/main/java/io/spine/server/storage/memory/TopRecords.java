@@ -0,0 +1,188 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.memory;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import io.spine.client.OrderBy;
+import io.spine.client.OrderBy.Direction;
+import io.spine.server.entity.storage.ColumnName;
+import io.spine.server.entity.storage.EntityRecordWithColumns;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static io.spine.util.Preconditions2.checkNotDefaultArg;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Selects the contents of {@link TenantRecords} in a provided {@link OrderBy order}
+ * up to a provided limit.
+ *
+ * <p>The value of the ordering column is obtained once per record. If there are more records
+ * than the limit, the records are passed through a heap bounded by the limit. The records
+ * which do not make it to the result are never sorted.
+ *
+ * <p>The records with equal values of the ordering column keep the order in which they
+ * are passed.
+ *
+ * @implNote More sophisticated storage implementations can order records by
+ *         non-{@link Comparable} fields like {@link com.google.protobuf.Message message}-type
+ *         fields, depending on their storage method (e.g. comparing the string content of
+ *         messages). The in-memory implementation stores all column values "as-is" and cannot do
+ *         that. Trying to {@linkplain OrderBy order by} column of non-comparable type will lead to
+ *         an exception being thrown.
+ */
+final class TopRecords {
+
+    private final ColumnName column;
+    private final boolean descending;
+    private final int limit;
+
+    private TopRecords(ColumnName column, boolean descending, int limit) {
+        this.column = column;
+        this.descending = descending;
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a new instance selecting the records in the provided order.
+     *
+     * @param orderBy
+     *         a specification of a column and the direction for ordering
+     * @param limit
+     *         the maximum number of the selected records; zero or a negative value means
+     *         the number is unlimited
+     * @throws IllegalArgumentException
+     *         if the provided {@code OrderBy} is a default instance
+     */
+    static TopRecords of(OrderBy orderBy, int limit) {
+        checkNotDefaultArg(
+                orderBy,
+                "An empty `OrderBy` instance cannot be used to order the records.");
+        ColumnName column = ColumnName.of(orderBy.getColumn());
+        boolean descending = orderBy.getDirection() == Direction.DESCENDING;
+        return new TopRecords(column, descending, limit);
+    }
+
+    /**
+     * Selects the first records in the order.
+     *
+     * @return the selected records in the order
+     */
+    List<EntityRecordWithColumns> select(Collection<EntityRecordWithColumns> records) {
+        checkNotNull(records);
+        if (records.size() < 2) {
+            return new ArrayList<>(records);
+        }
+        List<SortKey> keys = limit > 0 && limit < records.size()
+                             ? top(records)
+                             : all(records);
+        keys.sort(this::compare);
+        List<EntityRecordWithColumns> result = keys.stream()
+                                                   .map(key -> key.record)
+                                                   .collect(toList());
+        return result;
+    }
+
+    private List<SortKey> all(Collection<EntityRecordWithColumns> records) {
+        List<SortKey> keys = new ArrayList<>(records.size());
+        int position = 0;
+        for (EntityRecordWithColumns record : records) {
+            keys.add(new SortKey(record, position++));
+        }
+        return keys;
+    }
+
+    private List<SortKey> top(Collection<EntityRecordWithColumns> records) {
+        Comparator<SortKey> order = this::compare;
+        PriorityQueue<SortKey> worstFirst = new PriorityQueue<>(limit, order.reversed());
+        int position = 0;
+        for (EntityRecordWithColumns record : records) {
+            SortKey key = new SortKey(record, position++);
+            if (worstFirst.size() < limit) {
+                worstFirst.add(key);
+            } else if (compare(key, worstFirst.peek()) < 0) {
+                worstFirst.poll();
+                worstFirst.add(key);
+            }
+        }
+        return new ArrayList<>(worstFirst);
+    }
+
+    private int compare(SortKey a, SortKey b) {
+        int result = descending
+                     ? compareValues(b.value, a.value)
+                     : compareValues(a.value, b.value);
+        if (result == 0) {
+            result = Integer.compare(a.position, b.position);
+        }
+        return result;
+    }
+
+    /**
+     * Compares the values of the ordering column in the ascending order.
+     *
+     * <p>The {@code null} values go first.
+     */
+    @SuppressWarnings("ChainOfInstanceofChecks")    // Different special cases are covered.
+    private static int compareValues(@Nullable Object aValue, @Nullable Object bValue) {
+        if (aValue == null) {
+            return bValue == null ? 0 : -1;
+        }
+        if (bValue == null) {
+            return +1;
+        }
+        if (aValue instanceof Comparable) {
+            @SuppressWarnings({"unchecked", "rawtypes"}) // For convenience.
+                    int result = ((Comparable) aValue).compareTo(bValue);
+            return result;
+        }
+        if (aValue instanceof Timestamp) {
+            int result = Timestamps.compare((Timestamp) aValue, (Timestamp) bValue);
+            return result;
+        }
+        throw newIllegalStateException("The entity record value is not a Comparable.");
+    }
+
+    /**
+     * A record along with the value of the ordering column and its position
+     * among the selected records.
+     */
+    private final class SortKey {
+
+        private final EntityRecordWithColumns record;
+        private final @Nullable Object value;
+        private final int position;
+
+        private SortKey(EntityRecordWithColumns record, int position) {
+            this.record = checkNotNull(record);
+            this.value = record.columnValue(column);
+            this.position = position;
+        }
+    }
+}
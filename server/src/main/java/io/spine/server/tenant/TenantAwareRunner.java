@@ -23,6 +23,7 @@ package io.spine.server.tenant;
 import io.spine.annotation.Internal;
 import io.spine.core.TenantId;
 
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -64,6 +65,27 @@ public final class TenantAwareRunner {
         return with(TenantAware.getCurrentTenant(multitenant));
     }
 
+    /**
+     * Wraps the passed operation so that it runs for the tenant which is current at the time
+     * of this call.
+     *
+     * <p>Allows passing the current tenant to an operation performed by another thread.
+     * If no tenant is set, the operation is returned as is.
+     *
+     * @param operation
+     *         the operation to wrap
+     * @return the operation which runs for the current tenant
+     */
+    public static Runnable withCurrentTenant(Runnable operation) {
+        checkNotNull(operation);
+        Optional<TenantId> tenant = CurrentTenant.get();
+        if (!tenant.isPresent()) {
+            return operation;
+        }
+        TenantAwareRunner runner = with(tenant.get());
+        return () -> runner.run(operation);
+    }
+
     /**
      * Runs the given {@code operation} for the given tenant and returns the result of
      * the operation.
@@ -24,6 +24,7 @@ import com.google.common.truth.extensions.proto.ProtoSubject;
 import com.google.common.truth.extensions.proto.ProtoTruth;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Message;
+import io.grpc.Status;
 import io.spine.base.EntityState;
 import io.spine.client.EntityStateUpdate;
 import io.spine.client.EntityUpdates;
@@ -42,6 +43,8 @@ import io.spine.grpc.StreamObservers;
 import io.spine.server.Given.AggProjectCreatedReactor;
 import io.spine.server.Given.ProjectAggregateRepository;
 import io.spine.server.stand.InvalidSubscriptionException;
+import io.spine.server.stand.UpdateDelivery;
+import io.spine.server.stand.UpdateDelivery.Overflow;
 import io.spine.test.aggregate.Project;
 import io.spine.test.aggregate.ProjectId;
 import io.spine.test.aggregate.command.AggCreateProject;
@@ -58,6 +61,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 
@@ -312,9 +316,14 @@ class SubscriptionServiceTest {
 
     @CanIgnoreReturnValue
     private ProjectId updateEntity() {
+        return updateEntity("some-id");
+    }
+
+    @CanIgnoreReturnValue
+    private ProjectId updateEntity(String id) {
         ProjectId projectId = ProjectId
                 .newBuilder()
-                .setId("some-id")
+                .setId(id)
                 .build();
         AggCreateProject cmd = createProject(projectId);
         Command command = requestFactory.createCommand(cmd);
@@ -381,6 +390,77 @@ class SubscriptionServiceTest {
         assertThat(activationObserver.isCompleted()).isFalse();
     }
 
+    @Nested
+    @DisplayName("with the update delivery")
+    class WithUpdateDelivery {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+        private SubscriptionService service;
+
+        @BeforeEach
+        void createService() {
+            UpdateDelivery delivery = UpdateDelivery
+                    .newBuilder()
+                    .setExecutor(tasks::add)
+                    .setCapacity(1)
+                    .setOverflow(Overflow.CANCEL)
+                    .build();
+            service = SubscriptionService
+                    .newBuilder()
+                    .add(context)
+                    .setUpdateDelivery(delivery)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("pass the updates to the observer via the delivery executor")
+        void deliverAsync() {
+            subscribeAndActivate();
+            ProjectId entityId = updateEntity("async");
+            assertThat(activationObserver.responses()).isEmpty();
+
+            runTasks();
+            EntityState actual = memoizedEntity(activationObserver, Project.class);
+            ProtoTruth.assertThat(actual)
+                      .comparingExpectedFieldsOnly()
+                      .isEqualTo(toExpected(entityId));
+            assertThat(activationObserver.getError()).isNull();
+        }
+
+        @Test
+        @MuteLogging
+        @DisplayName("fail the observer with `RESOURCE_EXHAUSTED` when the queue overflows")
+        void cancelOnOverflow() {
+            subscribeAndActivate();
+            updateEntity("first");
+            updateEntity("second");
+
+            runTasks();
+            assertThat(activationObserver.responses()).isEmpty();
+            Throwable error = activationObserver.getError();
+            assertThat(error).isNotNull();
+            assertThat(Status.fromThrowable(error)
+                             .getCode())
+                    .isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+
+            updateEntity("third");
+            runTasks();
+            assertThat(activationObserver.responses()).isEmpty();
+        }
+
+        private void subscribeAndActivate() {
+            service.subscribe(newTopic(), observer);
+            service.activate(observer.firstResponse(), activationObserver);
+        }
+
+        private void runTasks() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0)
+                     .run();
+            }
+        }
+    }
+
     @Nested
     @DisplayName("when cancelling non-existent subscription")
     class WarnOnCancelling extends LoggingTest {
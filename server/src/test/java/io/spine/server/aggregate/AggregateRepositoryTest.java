@@ -23,11 +23,13 @@ package io.spine.server.aggregate;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import io.grpc.stub.StreamObserver;
+import io.spine.base.CommandMessage;
 import io.spine.base.Identifier;
 import io.spine.core.Ack;
 import io.spine.core.Command;
 import io.spine.core.Event;
 import io.spine.core.Events;
+import io.spine.core.Version;
 import io.spine.server.BoundedContext;
 import io.spine.server.BoundedContextBuilder;
 import io.spine.server.aggregate.given.klasse.EngineAggregate;
@@ -42,6 +44,7 @@ import io.spine.server.aggregate.given.repo.ReactingRepository;
 import io.spine.server.aggregate.given.repo.RejectingRepository;
 import io.spine.server.aggregate.given.repo.RejectionReactingAggregate;
 import io.spine.server.aggregate.given.repo.RejectionReactingRepository;
+import io.spine.server.aggregate.given.repo.RetainingProjectRepository;
 import io.spine.server.commandbus.CommandBus;
 import io.spine.server.entity.RecentHistory;
 import io.spine.server.entity.Repository;
@@ -79,6 +82,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -217,6 +221,102 @@ public class AggregateRepositoryTest {
             assertEquals(0, record.getEventCount());
         }
 
+        @Test
+        @DisplayName("when it's required to store snapshot in background")
+        void whenNeededToStoreInBackground() {
+            ProjectAggregate aggregate = GivenAggregate.withUncommittedEvents();
+            UncommittedEvents events = ((Aggregate<?, ?, ?>) aggregate).getUncommittedEvents();
+            repository().setSnapshotTrigger(events.list()
+                                                  .size());
+            List<Runnable> scheduled = new ArrayList<>();
+            repository().setSnapshotExecutor(scheduled::add);
+
+            repository().store(aggregate);
+            assertFalse(readRecord(aggregate).hasSnapshot());
+            assertThat(scheduled).hasSize(1);
+
+            scheduled.get(0)
+                     .run();
+            AggregateHistory record = readRecord(aggregate);
+            assertTrue(record.hasSnapshot());
+            assertEquals(0, record.getEventCount());
+        }
+
+        @Test
+        @DisplayName("truncating the history of the aggregate once its snapshot is written")
+        void truncateHistory() {
+            ProjectAggregate aggregate = GivenAggregate.withUncommittedEvents();
+            ProjectId id = aggregate.id();
+            ProjectId otherId = Sample.messageOfType(ProjectId.class);
+            AggregateStorage<ProjectId> storage = repository().aggregateStorage();
+            storage.writeSnapshot(id, snapshotOf(aggregate, 0));
+            storage.writeSnapshot(otherId, snapshotOf(aggregate, 0));
+            storage.writeSnapshot(otherId, snapshotOf(aggregate, 1));
+
+            UncommittedEvents events = ((Aggregate<?, ?, ?>) aggregate).getUncommittedEvents();
+            repository().setSnapshotTrigger(events.list()
+                                                  .size());
+            List<Runnable> scheduled = new ArrayList<>();
+            repository().setSnapshotExecutor(scheduled::add);
+            repository().setSnapshotsToKeep(1);
+
+            repository().store(aggregate);
+            assertThat(history(id)).hasSize(events.list()
+                                                  .size() + 1);
+
+            scheduled.get(0)
+                     .run();
+            List<AggregateEventRecord> history = history(id);
+            assertThat(history).hasSize(1);
+            assertTrue(history.get(0)
+                              .hasSnapshot());
+            assertThat(history(otherId)).hasSize(2);
+        }
+
+        private Snapshot snapshotOf(ProjectAggregate aggregate, int version) {
+            Version snapshotVersion = Version
+                    .newBuilder()
+                    .setNumber(version)
+                    .setTimestamp(currentTime())
+                    .build();
+            return Aggregate.snapshotOf(aggregate.state(), snapshotVersion);
+        }
+
+        private List<AggregateEventRecord> history(ProjectId id) {
+            AggregateReadRequest<ProjectId> request =
+                    new AggregateReadRequest<>(id, DEFAULT_SNAPSHOT_TRIGGER);
+            return Lists.newArrayList(repository().aggregateStorage()
+                                                  .historyBackward(request));
+        }
+
+        @Test
+        @DisplayName("when the snapshot policy tells so")
+        void whenPolicyTellsSo() {
+            ProjectAggregate aggregate = GivenAggregate.withUncommittedEvents();
+            UncommittedEvents events = ((Aggregate<?, ?, ?>) aggregate).getUncommittedEvents();
+            int eventCount = events.list()
+                                   .size();
+            repository().setSnapshotPolicy(count -> count == eventCount);
+
+            repository().store(aggregate);
+            AggregateHistory record = readRecord(aggregate);
+            assertTrue(record.hasSnapshot());
+        }
+
+        @Test
+        @DisplayName("not when the snapshot policy tells otherwise")
+        void notWhenPolicyTellsOtherwise() {
+            ProjectAggregate aggregate = GivenAggregate.withUncommittedEvents();
+            UncommittedEvents events = ((Aggregate<?, ?, ?>) aggregate).getUncommittedEvents();
+            repository().setSnapshotTrigger(events.list()
+                                                  .size());
+            repository().setSnapshotPolicy(count -> false);
+
+            repository().store(aggregate);
+            AggregateHistory record = readRecord(aggregate);
+            assertFalse(record.hasSnapshot());
+        }
+
         @Test
         @DisplayName("when storing snapshot isn't needed")
         void whenStoreNotNeeded() {
@@ -268,6 +368,32 @@ public class AggregateRepositoryTest {
         void notSetToZero() {
             assertThrows(IllegalArgumentException.class, () -> repository().setSnapshotTrigger(0));
         }
+
+        @Test
+        @DisplayName("with the number of snapshots to keep never set to non-positive value")
+        void notKeepNonPositiveSnapshots() {
+            assertThrows(IllegalArgumentException.class, () -> repository().setSnapshotsToKeep(0));
+            assertThrows(IllegalArgumentException.class, () -> repository().setSnapshotsToKeep(-1));
+        }
+
+        @Test
+        @DisplayName("with the number of snapshots to keep refused " +
+                "if the storage cannot truncate a single aggregate")
+        void notKeepSnapshotsWithoutTruncation() {
+            ProjectAggregateRepository repository = repository();
+            TestAggregateStorage storage =
+                    new TestAggregateStorage(repository.aggregateStorage(), false);
+            repository.injectStorage(storage);
+            repository.setSnapshotExecutor(Runnable::run);
+
+            assertThrows(IllegalStateException.class, () -> repository.setSnapshotsToKeep(1));
+        }
+
+        @Test
+        @DisplayName("with the number of snapshots to keep refused without the snapshot executor")
+        void notKeepSnapshotsWithoutExecutor() {
+            assertThrows(IllegalStateException.class, () -> repository().setSnapshotsToKeep(1));
+        }
     }
 
     @Nested
@@ -766,6 +892,109 @@ public class AggregateRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("retain aggregates between batches")
+    class RetainBetweenBatches {
+
+        private RetainingProjectRepository repository;
+        private BlackBoxContext context;
+        private ProjectId id;
+
+        @BeforeEach
+        void createRetainingRepository() {
+            repository = new RetainingProjectRepository();
+            context = BlackBoxContext.from(
+                    BoundedContextBuilder.assumingTests()
+                                         .add(repository)
+            );
+            id = givenAggregateId(Identifier.newUuid());
+            inBatch(AggCreateProject
+                            .newBuilder()
+                            .setProjectId(id)
+                            .setName("Retained")
+                            .build());
+        }
+
+        @AfterEach
+        void closeContext() {
+            context.close();
+        }
+
+        @Test
+        @DisplayName("reusing the retained aggregate without reloading it")
+        void reuse() {
+            inBatch(addTask());
+
+            assertThat(repository.loadCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("reloading the aggregate if its stored version changed")
+        void reloadIfChanged() {
+            String changedName = "Changed by another node";
+            Project changed = Project
+                    .newBuilder()
+                    .setId(id)
+                    .setName(changedName)
+                    .build();
+            Version later = Version
+                    .newBuilder()
+                    .setNumber(42)
+                    .setTimestamp(currentTime())
+                    .build();
+            repository.aggregateStorage()
+                      .writeSnapshot(id, Aggregate.snapshotOf(changed, later));
+
+            inBatch(addTask());
+
+            assertThat(repository.loadCount()).isEqualTo(2);
+            ProjectAggregate reloaded = repository.stored()
+                                                  .get(1);
+            assertThat(reloaded.state()
+                               .getName()).isEqualTo(changedName);
+        }
+
+        @Test
+        @DisplayName("handing out a copy independent of the retained aggregate")
+        void handOutCopy() {
+            inBatch(addTask());
+
+            List<ProjectAggregate> stored = repository.stored();
+            assertThat(stored).hasSize(2);
+            ProjectAggregate first = stored.get(0);
+            ProjectAggregate second = stored.get(1);
+            assertThat(second).isNotSameInstanceAs(first);
+            assertThat(second.state()
+                             .getName()).isEqualTo(first.state()
+                                                        .getName());
+            assertThat(first.state()
+                            .getTaskCount()).isEqualTo(0);
+            assertThat(second.state()
+                             .getTaskCount()).isEqualTo(1);
+        }
+
+        private AggAddTask addTask() {
+            return AggAddTask
+                    .newBuilder()
+                    .setProjectId(id)
+                    .setTask(Task.newBuilder()
+                                 .setTitle("Retained task"))
+                    .build();
+        }
+
+        /**
+         * Dispatches the command to the aggregate within a batch.
+         */
+        private void inBatch(CommandMessage command) {
+            AggregateRepository<ProjectId, ProjectAggregate> repository = this.repository;
+            repository.cache()
+                      .startCaching(id);
+            context.receivesCommand(command);
+            repository.cache()
+                      .stopCaching(id);
+        }
+    }
+
     private static MirrorRepository mirrorRepository(BoundedContext context) {
         BoundedContext systemContext = systemOf(context);
         Optional<Repository<?, ?>> repository =
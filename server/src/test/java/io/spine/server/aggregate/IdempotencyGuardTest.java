@@ -120,6 +120,20 @@ class IdempotencyGuardTest {
             assertThat(error).isEmpty();
         }
 
+        @Test
+        @DisplayName("not throw exception when command was handled but recent history was cleared")
+        void notThrowForCommandHandledBeforeHistoryCleared() {
+            Command createCommand = command(createProject(projectId));
+            post(createCommand);
+
+            IgTestAggregate aggregate = aggregate();
+            aggregate.clearRecentHistory();
+
+            IdempotencyGuard guard = new IdempotencyGuard(aggregate);
+            Optional<Error> error = check(guard, createCommand);
+            assertThat(error).isEmpty();
+        }
+
         @Test
         @DisplayName("not throw exception if command was not handled")
         void notThrowForCommandNotHandled() {
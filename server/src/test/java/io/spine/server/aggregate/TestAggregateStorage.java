@@ -34,11 +34,17 @@ import java.util.Optional;
 final class TestAggregateStorage extends AggregateStorage<ProjectId> {
 
     private final AggregateStorage<ProjectId> delegate;
+    private final boolean truncatesSingleAggregate;
     private AggregateReadRequest<ProjectId> memoizedRequest;
 
     TestAggregateStorage(AggregateStorage<ProjectId> delegate) {
+        this(delegate, delegate.truncatesSingleAggregate());
+    }
+
+    TestAggregateStorage(AggregateStorage<ProjectId> delegate, boolean truncatesSingleAggregate) {
         super(delegate.isMultitenant());
         this.delegate = delegate;
+        this.truncatesSingleAggregate = truncatesSingleAggregate;
     }
 
     @Override
@@ -63,6 +69,16 @@ final class TestAggregateStorage extends AggregateStorage<ProjectId> {
         delegate.truncate(snapshotIndex);
     }
 
+    @Override
+    protected void truncate(ProjectId id, int snapshotIndex) {
+        delegate.truncate(id, snapshotIndex);
+    }
+
+    @Override
+    protected boolean truncatesSingleAggregate() {
+        return truncatesSingleAggregate;
+    }
+
     @Override
     protected void truncate(int snapshotIndex, Timestamp date) {
         delegate.truncate(snapshotIndex, date);
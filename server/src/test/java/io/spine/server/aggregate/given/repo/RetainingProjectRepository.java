@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.aggregate.given.repo;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.server.entity.RepositoryCache;
+import io.spine.test.aggregate.ProjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.protobuf.util.Durations.fromMinutes;
+
+/**
+ * The repository of {@link ProjectAggregate}s which retains the aggregates between the batches.
+ *
+ * <p>Counts the aggregates loaded from the storage and remembers the instances which are
+ * flushed to the storage at the end of each batch.
+ */
+public final class RetainingProjectRepository extends ProjectAggregateRepository {
+
+    private final List<ProjectAggregate> stored = new ArrayList<>();
+    private int loadCount;
+
+    public RetainingProjectRepository() {
+        super();
+        setCacheRetention(RepositoryCache.Retention.of(100, fromMinutes(1)));
+    }
+
+    @Override
+    protected ProjectAggregate doLoadOrCreate(ProjectId id) {
+        loadCount++;
+        return super.doLoadOrCreate(id);
+    }
+
+    @Override
+    protected void doStore(ProjectAggregate aggregate) {
+        stored.add(aggregate);
+        super.doStore(aggregate);
+    }
+
+    /**
+     * Obtains the number of the aggregates loaded from the storage.
+     */
+    public int loadCount() {
+        return loadCount;
+    }
+
+    /**
+     * Obtains the aggregate instances in the order they were written to the storage.
+     */
+    public ImmutableList<ProjectAggregate> stored() {
+        return ImmutableList.copyOf(stored);
+    }
+}
@@ -21,10 +21,19 @@
 package io.spine.server.bus;
 
 import com.google.common.collect.ImmutableList;
+import io.spine.core.Ack;
 import io.spine.server.type.EventEnvelope;
+import io.spine.server.type.given.GivenEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.bus.Buses.acknowledge;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("FilterChain should")
@@ -38,4 +47,26 @@ class FilterChainTest {
         chain.close();
         assertThrows(IllegalStateException.class, chain::close);
     }
+
+    @Test
+    @DisplayName("pass to the next filter only the messages accepted by the previous one")
+    void filterBatch() {
+        EventEnvelope accepted = EventEnvelope.of(GivenEvent.arbitrary());
+        EventEnvelope rejected = EventEnvelope.of(GivenEvent.arbitrary());
+        Ack rejection = acknowledge(rejected.id());
+        List<EventEnvelope> seenBySecond = new ArrayList<>();
+        BusFilter<EventEnvelope> first = envelope -> envelope.equals(rejected)
+                                                     ? Optional.of(rejection)
+                                                     : Optional.empty();
+        BusFilter<EventEnvelope> second = envelope -> {
+            seenBySecond.add(envelope);
+            return Optional.empty();
+        };
+        FilterChain<EventEnvelope> chain = new FilterChain<>(ImmutableList.of(first, second));
+
+        Map<EventEnvelope, Ack> result = chain.acceptAll(ImmutableList.of(accepted, rejected));
+
+        assertThat(result).containsExactly(rejected, rejection);
+        assertThat(seenBySecond).containsExactly(accepted);
+    }
 }
@@ -136,6 +136,18 @@ class CommandDispatcherRegistryTest {
                                CmdBusStartProject.class);
         }
 
+        @Test
+        @DisplayName("command dispatcher, so that it can be registered again")
+        void registerAgain() {
+            CommandDispatcher dispatcher = new CreateProjectDispatcher();
+
+            registry.register(dispatcher);
+            registry.unregister(dispatcher);
+            registry.register(dispatcher);
+
+            assertSupported(CmdBusCreateProject.class);
+        }
+
         @Test
         @DisplayName("all command dispatchers and handlers")
         void everything() {
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import static io.spine.testing.Tests.nullRef;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("`DeliveryBuilder` should")
 class DeliveryBuilderTest {
@@ -181,6 +182,13 @@ class DeliveryBuilderTest {
                                                    .catchUpPageSize()
                                                    .get());
         }
+
+        @Test
+        @DisplayName("batching of `Inbox` writes")
+        void batchInboxWrites() {
+            assertTrue(builder().setBatchInboxWrites(true)
+                                .batchInboxWrites());
+        }
     }
 
     @Nested
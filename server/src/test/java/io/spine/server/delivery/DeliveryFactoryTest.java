@@ -21,6 +21,7 @@
 package io.spine.server.delivery;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -44,4 +45,20 @@ class DeliveryFactoryTest {
         LocalDispatchingObserver localObserver = (LocalDispatchingObserver) observer;
         assertThat(localObserver.isAsync()).isTrue();
     }
+
+    @Test
+    @DisplayName("create an instance of `Delivery` " +
+            "which delivers the messages from their shards with the given executor")
+    void createLocalAsyncWithExecutor() {
+        Delivery delivery = Delivery.localAsync(MoreExecutors.directExecutor());
+
+        ImmutableList<ShardObserver> observers = delivery.shardObservers();
+        assertThat(observers).hasSize(1);
+
+        ShardObserver observer = observers.get(0);
+        assertThat(observer).isInstanceOf(LocalDispatchingObserver.class);
+
+        LocalDispatchingObserver localObserver = (LocalDispatchingObserver) observer;
+        assertThat(localObserver.isAsync()).isTrue();
+    }
 }
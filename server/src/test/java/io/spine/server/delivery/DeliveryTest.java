@@ -32,8 +32,10 @@ import io.spine.core.UserId;
 import io.spine.protobuf.Messages;
 import io.spine.server.BoundedContextBuilder;
 import io.spine.server.ServerEnvironment;
+import io.spine.server.delivery.given.CountingInboxStorage;
 import io.spine.server.delivery.given.DeliveryTestEnv.RawMessageMemoizer;
 import io.spine.server.delivery.given.DeliveryTestEnv.ShardIndexMemoizer;
+import io.spine.server.delivery.given.DeliveryTestEnv.ShardNotificationCounter;
 import io.spine.server.delivery.given.FixedShardStrategy;
 import io.spine.server.delivery.given.MemoizingDeliveryMonitor;
 import io.spine.server.delivery.given.TaskAggregate;
@@ -163,6 +165,31 @@ public class DeliveryTest extends AbstractDeliveryTest {
                 .isEqualTo(strategy.nonEmptyShard());
     }
 
+    @Test
+    @DisplayName("multiple shards to multiple targets in a multi-threaded env " +
+            "writing the messages to `InboxStorage` in batches")
+    public void withBatchedWrites() {
+        CountingInboxStorage storage = new CountingInboxStorage();
+        Delivery delivery = Delivery.newBuilder()
+                                    .setStrategy(UniformAcrossAllShards.forNumber(7))
+                                    .setInboxStorage(storage)
+                                    .setBatchInboxWrites(true)
+                                    .build();
+        ShardNotificationCounter notifications = new ShardNotificationCounter();
+        delivery.subscribe(notifications);
+        delivery.subscribe(new LocalDispatchingObserver());
+        ServerEnvironment.instance()
+                         .use(delivery, Tests.class);
+
+        ImmutableSet<String> targets = manyTargets(7);
+        new NastyClient(5).runWith(targets);
+
+        assertThat(storage.writtenInBatches()).isGreaterThan(0);
+        assertThat(notifications.total())
+                .isAtMost(storage.writtenSingly() + storage.writtenInBatches());
+        assertThat(notifications.maxPerSignalAndShard()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("multiple shards to multiple targets in a single-threaded env " +
             "and calculate the statistics properly")
@@ -129,6 +129,54 @@ public abstract class InboxStorageTest {
         }
     }
 
+    @Test
+    @DisplayName("read the next page asynchronously")
+    void readNextPageAsync() {
+        ShardIndex index = newIndex(5, 2019);
+        int pageSize = 7;
+        ImmutableList<InboxMessage> messages = generateMessages(index, pageSize + 2);
+        storage.writeAll(messages);
+
+        Page<InboxMessage> firstPage = storage.readAll(index, pageSize);
+        Optional<Page<InboxMessage>> secondPage = firstPage.nextAsync()
+                                                           .join();
+        Truth8.assertThat(secondPage)
+              .isPresent();
+        assertSameContent(messages.subList(pageSize, messages.size()), secondPage.get());
+        Truth8.assertThat(secondPage.get()
+                                    .nextAsync()
+                                    .join())
+              .isEmpty();
+    }
+
+    @Test
+    @DisplayName("find the earliest message to deliver in a shard")
+    void findMessageToDeliver() {
+        ShardIndex index = newIndex(3, 2019);
+        ShardIndex anotherIndex = newIndex(4, 2019);
+        Truth8.assertThat(storage.newestMessageToDeliver(index))
+              .isEmpty();
+
+        ImmutableList<InboxMessage> messages = generateMessages(index, 5);
+        storage.writeAll(messages);
+        storage.writeAll(generateMessages(anotherIndex, 3));
+        Truth8.assertThat(storage.newestMessageToDeliver(index))
+              .hasValue(messages.get(0));
+
+        InboxMessage delivered = messages.get(0)
+                                         .toBuilder()
+                                         .setStatus(InboxMessageStatus.DELIVERED)
+                                         .build();
+        storage.write(delivered);
+        Truth8.assertThat(storage.newestMessageToDeliver(index))
+              .hasValue(messages.get(1));
+
+        storage.removeAll(messages.subList(1, messages.size()));
+        Truth8.assertThat(storage.newestMessageToDeliver(index))
+              .isEmpty();
+        assertSameContent(ImmutableList.of(delivered), readContents(index));
+    }
+
     /*
      * Test environment and utilities.
      *
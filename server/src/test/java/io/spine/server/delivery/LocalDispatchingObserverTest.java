@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.delivery;
+
+import io.spine.server.delivery.given.TestInboxMessages;
+import io.spine.test.delivery.Calc;
+import io.spine.type.TypeUrl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.delivery.DeliveryStrategy.newIndex;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`LocalDispatchingObserver` should")
+class LocalDispatchingObserverTest {
+
+    private static final ShardIndex FIRST_SHARD = newIndex(0, 2);
+    private static final ShardIndex SECOND_SHARD = newIndex(1, 2);
+
+    private QueuedExecutor executor;
+    private List<ShardIndex> delivered;
+
+    @BeforeEach
+    void setUp() {
+        executor = new QueuedExecutor();
+        delivered = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("deliver synchronously if no executor is set")
+    void deliverSynchronously() {
+        LocalDispatchingObserver observer = new LocalDispatchingObserver(null, delivered::add);
+        observer.onMessage(messageIn(FIRST_SHARD));
+        observer.onMessage(messageIn(FIRST_SHARD));
+
+        assertThat(delivered).containsExactly(FIRST_SHARD, FIRST_SHARD);
+    }
+
+    @Test
+    @DisplayName("coalesce the notifications arriving while the delivery is scheduled")
+    void coalesce() {
+        LocalDispatchingObserver observer = new LocalDispatchingObserver(executor, delivered::add);
+        observer.onMessage(messageIn(FIRST_SHARD));
+        observer.onMessage(messageIn(FIRST_SHARD));
+        observer.onMessage(messageIn(FIRST_SHARD));
+
+        assertThat(executor.scheduled()).isEqualTo(1);
+
+        executor.runAll();
+        assertThat(delivered).containsExactly(FIRST_SHARD, FIRST_SHARD);
+    }
+
+    @Test
+    @DisplayName("deliver from different shards independently")
+    void deliverShardsIndependently() {
+        LocalDispatchingObserver observer = new LocalDispatchingObserver(executor, delivered::add);
+        observer.onMessage(messageIn(FIRST_SHARD));
+        observer.onMessage(messageIn(SECOND_SHARD));
+
+        assertThat(executor.scheduled()).isEqualTo(2);
+
+        executor.runAll();
+        assertThat(delivered).containsExactly(FIRST_SHARD, SECOND_SHARD);
+    }
+
+    @Test
+    @DisplayName("deliver the shard once again if messages arrive during the delivery")
+    void redeliver() {
+        LocalDispatchingObserver[] observer = new LocalDispatchingObserver[1];
+        Consumer<ShardIndex> delivery = index -> {
+            delivered.add(index);
+            if (delivered.size() == 1) {
+                observer[0].onMessage(messageIn(index));
+            }
+        };
+        observer[0] = new LocalDispatchingObserver(executor, delivery);
+        observer[0].onMessage(messageIn(FIRST_SHARD));
+
+        executor.runAll();
+        assertThat(delivered).containsExactly(FIRST_SHARD, FIRST_SHARD);
+        assertThat(executor.scheduled()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("schedule a new delivery after the previous one completes")
+    void scheduleAfterCompletion() {
+        LocalDispatchingObserver observer = new LocalDispatchingObserver(executor, delivered::add);
+        observer.onMessage(messageIn(FIRST_SHARD));
+        executor.runAll();
+
+        observer.onMessage(messageIn(FIRST_SHARD));
+        assertThat(executor.scheduled()).isEqualTo(1);
+
+        executor.runAll();
+        assertThat(delivered).containsExactly(FIRST_SHARD, FIRST_SHARD);
+    }
+
+    @Test
+    @DisplayName("continue the delivery after it fails")
+    void continueAfterFailure() {
+        Consumer<ShardIndex> delivery = index -> {
+            delivered.add(index);
+            throw new IllegalStateException("Delivery failed.");
+        };
+        LocalDispatchingObserver observer = new LocalDispatchingObserver(executor, delivery);
+        observer.onMessage(messageIn(FIRST_SHARD));
+        executor.runAll();
+
+        observer.onMessage(messageIn(FIRST_SHARD));
+        executor.runAll();
+        assertThat(delivered).containsExactly(FIRST_SHARD, FIRST_SHARD);
+    }
+
+    @Test
+    @DisplayName("release the shard if the executor rejects the delivery")
+    void releaseOnRejection() {
+        LocalDispatchingObserver observer = new LocalDispatchingObserver(executor, delivered::add);
+        executor.rejectNext();
+        assertThrows(RejectedExecutionException.class,
+                     () -> observer.onMessage(messageIn(FIRST_SHARD)));
+
+        observer.onMessage(messageIn(FIRST_SHARD));
+        assertThat(executor.scheduled()).isEqualTo(1);
+
+        executor.runAll();
+        assertThat(delivered).containsExactly(FIRST_SHARD);
+    }
+
+    private static InboxMessage messageIn(ShardIndex index) {
+        InboxMessage message = TestInboxMessages.toDeliver("local-calc", TypeUrl.of(Calc.class));
+        return message.toBuilder()
+                      .setId(InboxMessageMixin.generateIdWith(index))
+                      .vBuild();
+    }
+
+    /**
+     * An executor which runs the tasks only when asked to.
+     */
+    private static final class QueuedExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean rejectNext;
+
+        @Override
+        public void execute(Runnable command) {
+            if (rejectNext) {
+                rejectNext = false;
+                throw new RejectedExecutionException("The task is rejected.");
+            }
+            tasks.add(command);
+        }
+
+        private void rejectNext() {
+            rejectNext = true;
+        }
+
+        private int scheduled() {
+            return tasks.size();
+        }
+
+        private void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll()
+                     .run();
+            }
+        }
+    }
+}
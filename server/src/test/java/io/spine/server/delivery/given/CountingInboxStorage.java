@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.delivery.given;
+
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.delivery.InboxReadRequest;
+import io.spine.server.delivery.InboxStorage;
+import io.spine.server.delivery.Page;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.storage.memory.InMemoryInboxStorage;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.collect.Sets.newConcurrentHashSet;
+
+/**
+ * An in-memory {@link InboxStorage} which counts the messages written for the first time.
+ *
+ * <p>The messages are counted separately for {@link #write(InboxMessage)} and
+ * {@link #writeAll(Iterable)}. The repeated writes of the same message, such as the updates
+ * of its status during the delivery, are not counted.
+ */
+public final class CountingInboxStorage implements InboxStorage {
+
+    private final InboxStorage delegate = new InMemoryInboxStorage(true);
+    private final Set<InboxMessageId> written = newConcurrentHashSet();
+    private final AtomicInteger writtenSingly = new AtomicInteger();
+    private final AtomicInteger writtenInBatches = new AtomicInteger();
+
+    @Override
+    public Page<InboxMessage> readAll(ShardIndex index, int pageSize) {
+        return delegate.readAll(index, pageSize);
+    }
+
+    @Override
+    public Optional<InboxMessage> newestMessageToDeliver(ShardIndex index) {
+        return delegate.newestMessageToDeliver(index);
+    }
+
+    @Override
+    public void write(InboxMessage message) {
+        if (written.add(message.getId())) {
+            writtenSingly.incrementAndGet();
+        }
+        delegate.write(message);
+    }
+
+    @Override
+    public void writeAll(Iterable<InboxMessage> messages) {
+        for (InboxMessage message : messages) {
+            if (written.add(message.getId())) {
+                writtenInBatches.incrementAndGet();
+            }
+        }
+        delegate.writeAll(messages);
+    }
+
+    @Override
+    public void removeAll(Iterable<InboxMessage> messages) {
+        delegate.removeAll(messages);
+    }
+
+    @Override
+    public boolean isMultitenant() {
+        return delegate.isMultitenant();
+    }
+
+    @Override
+    public Iterator<InboxMessageId> index() {
+        return delegate.index();
+    }
+
+    @Override
+    public Optional<InboxMessage> read(InboxReadRequest request) {
+        return delegate.read(request);
+    }
+
+    @Override
+    public void write(InboxMessageId id, InboxMessage record) {
+        delegate.write(id, record);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    /**
+     * Returns the number of new messages written via {@link #write(InboxMessage)}.
+     */
+    public int writtenSingly() {
+        return writtenSingly.get();
+    }
+
+    /**
+     * Returns the number of new messages written via {@link #writeAll(Iterable)}.
+     */
+    public int writtenInBatches() {
+        return writtenInBatches.get();
+    }
+}
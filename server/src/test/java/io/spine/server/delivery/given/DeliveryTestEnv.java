@@ -21,11 +21,14 @@
 package io.spine.server.delivery.given;
 
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ConcurrentHashMultiset;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multiset;
 import com.google.protobuf.Any;
+import io.spine.core.SignalId;
 import io.spine.protobuf.AnyPacker;
 import io.spine.server.NodeId;
 import io.spine.server.aggregate.AggregateRepository;
@@ -40,6 +43,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import static io.spine.base.Identifier.newUuid;
@@ -194,4 +198,70 @@ public class DeliveryTestEnv {
             return ImmutableSet.copyOf(observedShards);
         }
     }
+
+    /**
+     * An observer of the messages delivered to shards, which counts how many times each shard
+     * was notified of each signal.
+     */
+    public static class ShardNotificationCounter implements ShardObserver {
+
+        private final Multiset<SignalInShard> notifications = ConcurrentHashMultiset.create();
+
+        @Override
+        public void onMessage(InboxMessage update) {
+            SignalId signal = update.hasEvent()
+                              ? update.getEvent()
+                                      .getId()
+                              : update.getCommand()
+                                      .getId();
+            notifications.add(new SignalInShard(signal, update.shardIndex()));
+        }
+
+        /**
+         * Returns the total number of the received notifications.
+         */
+        public int total() {
+            return notifications.size();
+        }
+
+        /**
+         * Returns the greatest number of notifications received for a single signal
+         * in a single shard.
+         */
+        public int maxPerSignalAndShard() {
+            return notifications.entrySet()
+                                .stream()
+                                .mapToInt(Multiset.Entry::getCount)
+                                .max()
+                                .orElse(0);
+        }
+
+        private static final class SignalInShard {
+
+            private final SignalId signal;
+            private final ShardIndex shard;
+
+            private SignalInShard(SignalId signal, ShardIndex shard) {
+                this.signal = signal;
+                this.shard = shard;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o) {
+                    return true;
+                }
+                if (o == null || getClass() != o.getClass()) {
+                    return false;
+                }
+                SignalInShard other = (SignalInShard) o;
+                return signal.equals(other.signal) && shard.equals(other.shard);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hash(signal, shard);
+            }
+        }
+    }
 }
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.entity;
+
+import com.google.protobuf.util.Durations;
+import io.spine.core.Version;
+import io.spine.core.Versions;
+import io.spine.server.entity.RepositoryCache.Retention;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.base.Time.currentTime;
+import static java.util.Collections.synchronizedList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`RepositoryCache` should")
+class RepositoryCacheTest {
+
+    private List<String> loaded;
+    private List<TestEntity> stored;
+    private Map<String, Version> storedVersions;
+
+    @BeforeEach
+    void setUp() {
+        loaded = synchronizedList(new ArrayList<>());
+        stored = synchronizedList(new ArrayList<>());
+        storedVersions = new ConcurrentHashMap<>();
+    }
+
+    private TestEntity load(String id) {
+        loaded.add(id);
+        return TestEntity.newInstance(id);
+    }
+
+    private void store(TestEntity entity) {
+        stored.add(entity);
+        storedVersions.put(entity.id(), entity.version());
+    }
+
+    private Optional<Version> storedVersion(String id) {
+        return Optional.ofNullable(storedVersions.get(id));
+    }
+
+    private RepositoryCache<String, TestEntity> newCache() {
+        return new RepositoryCache<>(false, this::load, this::store);
+    }
+
+    private RepositoryCache<String, TestEntity> newRetainingCache() {
+        return newRetainingCache(10);
+    }
+
+    private RepositoryCache<String, TestEntity> newRetainingCache(int maximumSize) {
+        Retention retention = Retention.of(maximumSize, Durations.fromMinutes(1));
+        return new RepositoryCache<>(false, this::load, this::store, retention,
+                                     RepositoryCacheTest::copyOf, this::storedVersion);
+    }
+
+    private static TestEntity copyOf(TestEntity entity) {
+        TestEntity copy = TestEntity.newInstance(entity.id());
+        copy.setVersion(entity.version());
+        return copy;
+    }
+
+    @Test
+    @DisplayName("load the entity once per batch and store it when the batch is over")
+    void cacheWithinBatch() {
+        RepositoryCache<String, TestEntity> cache = newCache();
+        String id = newUuid();
+        cache.startCaching(id);
+        TestEntity entity = cache.load(id);
+        cache.store(entity);
+        assertThat(cache.load(id)).isSameInstanceAs(entity);
+        assertThat(stored).isEmpty();
+
+        cache.stopCaching(id);
+        assertThat(loaded).containsExactly(id);
+        assertThat(stored).containsExactly(entity);
+    }
+
+    @Test
+    @DisplayName("load the entity for each batch if the entities are not retained")
+    void loadForEachBatch() {
+        RepositoryCache<String, TestEntity> cache = newCache();
+        String id = newUuid();
+        runBatch(cache, id);
+        runBatch(cache, id);
+        assertThat(loaded).containsExactly(id, id);
+    }
+
+    @Nested
+    @DisplayName("when retaining the entities")
+    class Retaining {
+
+        @Test
+        @DisplayName("serve the subsequent batches without loading the entity")
+        void serveFromMemory() {
+            RepositoryCache<String, TestEntity> cache = newRetainingCache();
+            String id = newUuid();
+            TestEntity first = runBatch(cache, id);
+            TestEntity second = runBatch(cache, id);
+            assertThat(loaded).containsExactly(id);
+            assertThat(stored).containsExactly(first, second);
+        }
+
+        @Test
+        @DisplayName("hand out a copy of the retained entity to each batch")
+        void serveCopies() {
+            RepositoryCache<String, TestEntity> cache = newRetainingCache();
+            String id = newUuid();
+            TestEntity first = runBatch(cache, id);
+            TestEntity second = runBatch(cache, id);
+            TestEntity third = runBatch(cache, id);
+            assertThat(second).isNotSameInstanceAs(first);
+            assertThat(third).isNotSameInstanceAs(second);
+            assertThat(second.version()).isEqualTo(first.version());
+        }
+
+        @Test
+        @DisplayName("load the entity if its stored version differs from the retained one")
+        void loadIfChangedInStorage() {
+            RepositoryCache<String, TestEntity> cache = newRetainingCache();
+            String id = newUuid();
+            runBatch(cache, id);
+            storedVersions.put(id, Versions.newVersion(42, currentTime()));
+            runBatch(cache, id);
+            assertThat(loaded).containsExactly(id, id);
+        }
+
+        @Test
+        @DisplayName("discard the retained entity if a different version is stored directly")
+        void invalidateOnVersionMismatch() {
+            RepositoryCache<String, TestEntity> cache = newRetainingCache();
+            String id = newUuid();
+            runBatch(cache, id);
+            TestEntity changed = TestEntity.newInstance(id);
+            changed.setVersion(Versions.newVersion(42, currentTime()));
+            cache.store(changed);
+            runBatch(cache, id);
+            assertThat(loaded).containsExactly(id, id);
+        }
+
+        @Test
+        @DisplayName("discard the retained entity on demand")
+        void invalidate() {
+            RepositoryCache<String, TestEntity> cache = newRetainingCache();
+            String id = newUuid();
+            runBatch(cache, id);
+            cache.invalidate(id);
+            runBatch(cache, id);
+            assertThat(loaded).containsExactly(id, id);
+        }
+
+        @Test
+        @DisplayName("not retain more entities than allowed")
+        void boundSize() {
+            RepositoryCache<String, TestEntity> cache = newRetainingCache(1);
+            String first = newUuid();
+            String second = newUuid();
+            runBatch(cache, first);
+            runBatch(cache, second);
+            runBatch(cache, first);
+            assertThat(loaded).containsExactly(first, second, first);
+        }
+
+        @Test
+        @DisplayName("not accept a non-positive retention policy")
+        void rejectInvalidRetention() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> Retention.of(0, Durations.fromMinutes(1)));
+            assertThrows(IllegalArgumentException.class,
+                         () -> Retention.of(1, Durations.fromMillis(0)));
+        }
+    }
+
+    @Nested
+    @DisplayName("when accessed concurrently")
+    class Concurrently {
+
+        private static final int ENTITIES = 200;
+        private static final int BATCHES_PER_ENTITY = 20;
+
+        private ExecutorService executor;
+
+        @BeforeEach
+        void setUp() {
+            executor = Executors.newFixedThreadPool(Runtime.getRuntime()
+                                                           .availableProcessors() * 2);
+        }
+
+        @AfterEach
+        void tearDown() {
+            executor.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("run the batches of different entities in parallel")
+        void runBatchesInParallel() throws Exception {
+            RepositoryCache<String, TestEntity> cache = newRetainingCache(ENTITIES);
+            List<String> ids = IntStream.range(0, ENTITIES)
+                                        .mapToObj(i -> newUuid())
+                                        .collect(toList());
+            // The batches of the same entity are delivered sequentially, as within a shard.
+            Collection<Callable<TestEntity>> tasks = new ArrayList<>();
+            for (String id : ids) {
+                tasks.add(() -> {
+                    TestEntity entity = null;
+                    for (int i = 0; i < BATCHES_PER_ENTITY; i++) {
+                        entity = runBatch(cache, id);
+                    }
+                    return entity;
+                });
+            }
+            awaitAll(executor.invokeAll(tasks));
+
+            assertThat(loaded).containsExactlyElementsIn(ids);
+            assertThat(stored).hasSize(ENTITIES * BATCHES_PER_ENTITY);
+            Set<String> storedIds = stored.stream()
+                                          .map(TestEntity::id)
+                                          .collect(toImmutableSet());
+            assertThat(storedIds).containsExactlyElementsIn(ids);
+        }
+
+        @Test
+        @DisplayName("load an entity once when it is concurrently read within a batch")
+        void loadOnceWithinBatch() throws Exception {
+            RepositoryCache<String, TestEntity> cache = newCache();
+            String id = newUuid();
+            cache.startCaching(id);
+            Collection<Callable<TestEntity>> tasks = new ArrayList<>();
+            for (int i = 0; i < ENTITIES; i++) {
+                tasks.add(() -> cache.load(id));
+            }
+            List<Future<TestEntity>> futures = executor.invokeAll(tasks);
+            Set<TestEntity> entities = ConcurrentHashMap.newKeySet();
+            for (Future<TestEntity> future : futures) {
+                entities.add(future.get());
+            }
+            cache.stopCaching(id);
+
+            assertThat(entities).hasSize(1);
+            assertThat(loaded).containsExactly(id);
+            assertThat(stored).containsExactlyElementsIn(entities);
+        }
+
+        private static void awaitAll(List<Future<TestEntity>> futures) throws Exception {
+            for (Future<TestEntity> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private static TestEntity runBatch(RepositoryCache<String, TestEntity> cache, String id) {
+        cache.startCaching(id);
+        TestEntity entity = cache.load(id);
+        cache.store(entity);
+        cache.stopCaching(id);
+        return entity;
+    }
+}
@@ -21,6 +21,7 @@
 package io.spine.server.entity.storage;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import com.google.common.testing.NullPointerTester;
 import io.spine.server.entity.storage.given.TaskListViewProjection;
 import io.spine.server.entity.storage.given.TaskViewProjection;
@@ -129,6 +130,40 @@ class ColumnsTest {
         );
     }
 
+    @Test
+    @DisplayName("extract values from entity by the positions of the columns")
+    void extractColumnValueArray() {
+        TaskViewProjection projection = new TaskViewProjection();
+        Object[] values = columns.valueArrayIn(projection);
+        ImmutableMap<ColumnName, Integer> positions = columns.positions();
+
+        assertThat(values).hasLength(columns.columnList()
+                                             .size());
+        assertThat(valueAt(values, positions, "archived")).isEqualTo(projection.isArchived());
+        assertThat(valueAt(values, positions, "deleted")).isEqualTo(projection.isDeleted());
+        assertThat(valueAt(values, positions, "version")).isEqualTo(projection.version());
+        assertThat(valueAt(values, positions, "name")).isEqualTo(projection.state()
+                                                                           .getName());
+        assertThat(valueAt(values, positions, "estimate_in_days"))
+                .isEqualTo(projection.state()
+                                     .getEstimateInDays());
+        assertThat(valueAt(values, positions, "status")).isEqualTo(projection.state()
+                                                                             .getStatus());
+        assertThat(valueAt(values, positions, "due_date")).isEqualTo(projection.state()
+                                                                               .getDueDate());
+        assertThat(columns.valuesIn(projection)).containsExactlyEntriesIn(
+                Maps.transformValues(positions, position -> values[position])
+        );
+    }
+
+    private static Object valueAt(Object[] values,
+                                  ImmutableMap<ColumnName, Integer> positions,
+                                  String column) {
+        Integer position = positions.get(ColumnName.of(column));
+        assertThat(position).isNotNull();
+        return values[position];
+    }
+
     @Test
     @DisplayName("return a map of interface-based columns")
     void extractInterfaceBasedValues() {
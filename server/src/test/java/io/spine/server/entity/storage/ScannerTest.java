@@ -24,6 +24,8 @@ import com.google.common.collect.ImmutableMap;
 import io.spine.server.entity.Entity;
 import io.spine.server.entity.model.EntityClass;
 import io.spine.server.entity.storage.given.IntrospectorTestEnv.InvalidEntityWithColumns;
+import io.spine.server.entity.storage.given.ScannerTestEnv.Throwing;
+import io.spine.server.entity.storage.given.ScannerTestEnv.Visible;
 import io.spine.server.entity.storage.given.TaskListViewProjection;
 import io.spine.server.entity.storage.given.TaskViewProjection;
 import io.spine.server.projection.Projection;
@@ -31,10 +33,22 @@ import io.spine.test.entity.TaskListView;
 import io.spine.test.entity.TaskListViewId;
 import io.spine.test.entity.TaskListViewWithColumns;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
 import static io.spine.server.entity.model.EntityClass.asEntityClass;
+import static io.spine.server.entity.storage.Scanner.accessor;
+import static io.spine.server.entity.storage.Scanner.compile;
+import static io.spine.server.entity.storage.given.ScannerTestEnv.VALUE;
+import static io.spine.server.entity.storage.given.ScannerTestEnv.getterOf;
+import static io.spine.server.entity.storage.given.ScannerTestEnv.hiddenClass;
+import static io.spine.server.entity.storage.given.ScannerTestEnv.loadSeparately;
+import static io.spine.server.entity.storage.given.ScannerTestEnv.newInstance;
 import static io.spine.server.storage.LifecycleFlagField.archived;
 import static io.spine.server.storage.LifecycleFlagField.deleted;
 import static io.spine.server.storage.VersionField.version;
@@ -110,6 +124,56 @@ class ScannerTest {
         assertThrows(IllegalStateException.class, scanner::interfaceBasedColumns);
     }
 
+    @Nested
+    @DisplayName("obtain column values via a getter")
+    class Accessor {
+
+        @Test
+        @DisplayName("compiled if the getter is accessible")
+        void compiled() {
+            Method getter = getterOf(Visible.class);
+
+            assertThat(compile(getter)).isPresent();
+            assertThat(accessor(getter).apply(new Visible())).isEqualTo(VALUE);
+        }
+
+        @Test
+        @DisplayName("invoked reflectively if the getter is not accessible")
+        void fallBackIfInaccessible() {
+            Class<?> hidden = hiddenClass();
+            Method getter = getterOf(hidden);
+
+            assertThat(compile(getter)).isEmpty();
+            assertThat(accessor(getter).apply(newInstance(hidden))).isEqualTo(VALUE);
+        }
+
+        @Test
+        @DisplayName("invoked reflectively if the getter is loaded by another class loader")
+        void fallBackIfLoadedSeparately() {
+            Class<?> foreign = loadSeparately(Visible.class);
+            Method getter = getterOf(foreign);
+
+            assertThat(foreign).isNotEqualTo(Visible.class);
+            assertThat(compile(getter)).isEmpty();
+            assertThat(accessor(getter).apply(newInstance(foreign))).isEqualTo(VALUE);
+        }
+
+        @Test
+        @DisplayName("wrapping the exception of the compiled getter into `ISE`")
+        void wrapException() {
+            Method getter = getterOf(Throwing.class);
+            Function<Object, Object> accessor = accessor(getter);
+
+            assertThat(compile(getter)).isPresent();
+            IllegalStateException exception =
+                    assertThrows(IllegalStateException.class,
+                                 () -> accessor.apply(new Throwing()));
+            assertThat(exception)
+                    .hasCauseThat()
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
     /**
      * A projection with a non-{@code public} access.
      *
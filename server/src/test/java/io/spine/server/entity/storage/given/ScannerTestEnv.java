@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.entity.storage.given;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+
+public final class ScannerTestEnv {
+
+    public static final String VALUE = "getter-value";
+
+    /** Prevents instantiation of this test env class. */
+    private ScannerTestEnv() {
+    }
+
+    /**
+     * Obtains the {@code getValue()} method of the passed class.
+     */
+    public static Method getterOf(Class<?> cls) {
+        try {
+            return cls.getMethod("getValue");
+        } catch (NoSuchMethodException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Creates a new instance of the passed class using its default constructor.
+     */
+    public static Object newInstance(Class<?> cls) {
+        try {
+            return cls.getDeclaredConstructor()
+                      .newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Obtains the class which is not accessible outside of this package.
+     */
+    public static Class<?> hiddenClass() {
+        return Hidden.class;
+    }
+
+    /**
+     * Loads the passed class once again by a class loader which does not delegate
+     * to the class loader of the tests.
+     */
+    public static Class<?> loadSeparately(Class<?> cls) {
+        URL location = cls.getProtectionDomain()
+                          .getCodeSource()
+                          .getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{location}, null)) {
+            return loader.loadClass(cls.getName());
+        } catch (IOException | ClassNotFoundException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    public static final class Visible {
+
+        public String getValue() {
+            return VALUE;
+        }
+    }
+
+    public static final class Throwing {
+
+        public String getValue() {
+            throw new UnsupportedOperationException(VALUE);
+        }
+    }
+
+    static final class Hidden {
+
+        public String getValue() {
+            return VALUE;
+        }
+    }
+}
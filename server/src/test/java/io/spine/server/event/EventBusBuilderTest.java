@@ -50,6 +50,13 @@ class EventBusBuilderTest
                 builder().injectEnricher(Tests.nullRef()));
     }
 
+    @Test
+    @DisplayName("reject null dispatch executor")
+    void rejectNullExecutor() {
+        assertThrows(NullPointerException.class, () ->
+                builder().setDispatchExecutor(Tests.nullRef()));
+    }
+
     @Nested
     @DisplayName("assign `StreamObserver`")
     class PostObserver {
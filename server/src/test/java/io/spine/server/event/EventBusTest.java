@@ -24,6 +24,7 @@ import io.grpc.stub.StreamObserver;
 import io.spine.core.Ack;
 import io.spine.core.Command;
 import io.spine.core.Event;
+import io.spine.core.TenantId;
 import io.spine.grpc.StreamObservers;
 import io.spine.server.BoundedContext;
 import io.spine.server.BoundedContextBuilder;
@@ -38,7 +39,9 @@ import io.spine.server.event.given.bus.EBTaskAddedNoOpSubscriber;
 import io.spine.server.event.given.bus.GivenEvent;
 import io.spine.server.event.given.bus.ProjectAggregate;
 import io.spine.server.event.given.bus.RememberingSubscriber;
+import io.spine.server.event.given.bus.RendezvousDispatcher;
 import io.spine.server.event.given.bus.TaskCreatedFilter;
+import io.spine.server.tenant.TenantAwareRunner;
 import io.spine.server.type.EventClass;
 import io.spine.server.type.EventEnvelope;
 import io.spine.test.event.EBTaskAdded;
@@ -48,6 +51,7 @@ import io.spine.test.event.Task;
 import io.spine.test.event.TaskId;
 import io.spine.testdata.Sample;
 import io.spine.testing.SlowTest;
+import io.spine.testing.core.given.GivenTenantId;
 import io.spine.testing.logging.MuteLogging;
 import io.spine.testing.server.TestEventFactory;
 import io.spine.validate.Validated;
@@ -61,6 +65,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -245,6 +250,36 @@ public class EventBusTest {
             assertThat(dispatcher.isDispatchCalled())
                     .isTrue();
         }
+
+        @Test
+        @DisplayName("dispatchers concurrently for the current tenant, if configured")
+        void concurrently() throws Exception {
+            ExecutorService executor = Executors.newCachedThreadPool();
+            BoundedContext concurrentContext = assumingTests()
+                    .dispatchEventsConcurrently(executor)
+                    .build();
+            try {
+                EventBus bus = concurrentContext.eventBus();
+                CountDownLatch latch = new CountDownLatch(2);
+                RendezvousDispatcher first = new RendezvousDispatcher(latch);
+                RendezvousDispatcher second = new RendezvousDispatcher(latch);
+                bus.register(first);
+                bus.register(second);
+                Event event = GivenEvent.projectCreated();
+                TenantId tenant = GivenTenantId.generate();
+
+                TenantAwareRunner.with(tenant)
+                                 .run(() -> bus.post(event));
+
+                assertThat(first.metOthers()).isTrue();
+                assertThat(second.metOthers()).isTrue();
+                assertThat(first.tenant()).isEqualTo(tenant);
+                assertThat(second.tenant()).isEqualTo(tenant);
+            } finally {
+                concurrentContext.close();
+                executor.shutdownNow();
+            }
+        }
     }
 
 
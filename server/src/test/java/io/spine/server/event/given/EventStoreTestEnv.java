@@ -21,25 +21,31 @@
 package io.spine.server.event.given;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Any;
 import com.google.protobuf.Timestamp;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import io.spine.core.Event;
-import io.spine.server.event.store.DefaultEventStoreTest;
+import io.spine.core.EventContext;
+import io.spine.server.event.store.EventStoreTest;
 import io.spine.test.event.ProjectCreated;
 import io.spine.test.event.TaskAdded;
 import io.spine.testdata.Sample;
 import io.spine.testing.server.TestEventFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Sets.newConcurrentHashSet;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class EventStoreTestEnv {
 
     private static final TestEventFactory eventFactory =
-            TestEventFactory.newInstance(DefaultEventStoreTest.class);
+            TestEventFactory.newInstance(EventStoreTest.class);
 
     /** Prevents instantiation of this utility class. */
     private EventStoreTestEnv() {
@@ -55,6 +61,19 @@ public class EventStoreTestEnv {
         return eventFactory.createEvent(msg, null, when);
     }
 
+    /**
+     * Obtains a copy of the passed event produced by the passed entity.
+     */
+    public static Event withProducer(Event event, Any producer) {
+        EventContext context = event.context()
+                                    .toBuilder()
+                                    .setProducerId(producer)
+                                    .build();
+        return event.toBuilder()
+                    .setContext(context)
+                    .build();
+    }
+
     public static void assertDone(AtomicBoolean done) {
         if (!done.get()) {
             fail("Please use the MoreExecutors.directExecutor in EventStore for tests.");
@@ -89,4 +108,113 @@ public class EventStoreTestEnv {
             doneFlag.getAndSet(true);
         }
     }
+
+    /**
+     * An observer of a server stream, the readiness of which is controlled by a test.
+     */
+    public static final class ServerStreamObserver extends ServerCallStreamObserver<Event> {
+
+        private final List<Event> events = new ArrayList<>();
+        private final List<Throwable> errors = new ArrayList<>();
+        private final boolean acceptsErrors;
+        private boolean ready;
+        private boolean completed;
+        private Runnable onReadyHandler = () -> {};
+
+        /**
+         * Creates an observer which fails the test if the stream reports an error.
+         */
+        public ServerStreamObserver() {
+            this(false);
+        }
+
+        private ServerStreamObserver(boolean acceptsErrors) {
+            this.acceptsErrors = acceptsErrors;
+        }
+
+        /**
+         * Creates an observer which remembers the errors reported by the stream.
+         */
+        public static ServerStreamObserver acceptingErrors() {
+            return new ServerStreamObserver(true);
+        }
+
+        public List<Event> events() {
+            return events;
+        }
+
+        public List<Throwable> errors() {
+            return errors;
+        }
+
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        /**
+         * Makes the stream ready and notifies the stream handler.
+         */
+        public void becomeReady() {
+            ready = true;
+            onReadyHandler.run();
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {
+            this.onReadyHandler = checkNotNull(onReadyHandler);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public void setOnCancelHandler(Runnable onCancelHandler) {
+            // Do nothing.
+        }
+
+        @Override
+        public void setCompression(String compression) {
+            // Do nothing.
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+            // Do nothing.
+        }
+
+        @Override
+        public void request(int count) {
+            // Do nothing.
+        }
+
+        @Override
+        public void setMessageCompression(boolean enable) {
+            // Do nothing.
+        }
+
+        @Override
+        public void onNext(Event value) {
+            events.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (!acceptsErrors) {
+                fail(t.getMessage());
+            }
+            errors.add(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            completed = true;
+        }
+    }
 }
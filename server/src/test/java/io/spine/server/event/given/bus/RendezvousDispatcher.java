@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.event.given.bus;
+
+import io.spine.core.TenantId;
+import io.spine.server.tenant.TenantFunction;
+import io.spine.server.type.EventEnvelope;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A dispatcher which waits until all the dispatchers sharing the same latch are called.
+ *
+ * <p>If the dispatchers are called one after another, the waiting times out.
+ */
+public final class RendezvousDispatcher extends BareDispatcher {
+
+    private final CountDownLatch latch;
+    private volatile boolean met = false;
+    private volatile @Nullable TenantId tenant;
+
+    public RendezvousDispatcher(CountDownLatch latch) {
+        super();
+        this.latch = latch;
+    }
+
+    @Override
+    public void dispatch(EventEnvelope event) {
+        super.dispatch(event);
+        tenant = currentTenant();
+        latch.countDown();
+        try {
+            met = latch.await(10, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    private static @Nullable TenantId currentTenant() {
+        try {
+            return new TenantFunction<TenantId>(true) {
+                @Override
+                public TenantId apply(TenantId tenantId) {
+                    return tenantId;
+                }
+            }.execute();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Tells if the other dispatchers were called while this one was dispatching.
+     */
+    public boolean metOthers() {
+        return met;
+    }
+
+    /**
+     * Obtains the tenant which was current when the event was dispatched.
+     */
+    public @Nullable TenantId tenant() {
+        return tenant;
+    }
+}
@@ -25,6 +25,8 @@ import io.spine.core.Event;
 import io.spine.core.EventContext;
 import io.spine.grpc.MemoizingObserver;
 import io.spine.grpc.StreamObservers;
+import io.spine.server.entity.storage.ColumnName;
+import io.spine.server.entity.storage.EntityRecordWithColumns;
 import io.spine.server.event.EventStore;
 import io.spine.server.event.EventStreamQuery;
 import io.spine.server.type.given.GivenEvent;
@@ -40,6 +42,7 @@ import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.spine.protobuf.AnyPacker.unpack;
 import static java.util.concurrent.CompletableFuture.runAsync;
 
 @DisplayName("EEntity should")
@@ -63,4 +66,28 @@ final class EEntityTest {
 
         assertThat(entity.state()).isEqualTo(event);
     }
+
+    @Test
+    @DisplayName("create a storage record of an event without creating an entity")
+    void createRecord() {
+        Enrichment enrichment = GivenEnrichment.withOneAttribute();
+        Event event = GivenEvent.arbitrary();
+        EventContext contextWithEnrichment = event
+                .getContext()
+                .toBuilder()
+                .setEnrichment(enrichment)
+                .build();
+        Event eventWithEnrichment = event
+                .toBuilder()
+                .setContext(contextWithEnrichment)
+                .build();
+        EEntity entity = EEntity.create(event);
+        EntityRecordWithColumns record = EEntity.recordOf(eventWithEnrichment);
+
+        assertThat(unpack(record.record()
+                                .getState())).isEqualTo(event);
+        assertThat(record.columnNames()).containsExactlyElementsIn(EEntity.COLUMNS);
+        assertThat(record.columnValue(ColumnName.of("created"))).isEqualTo(entity.getCreated());
+        assertThat(record.columnValue(ColumnName.of("type"))).isEqualTo(entity.getType());
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.event.store;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import io.spine.core.Event;
+import io.spine.core.TenantId;
+import io.spine.server.event.given.EventStoreTestEnv.ServerStreamObserver;
+import io.spine.server.tenant.TenantAwareRunner;
+import io.spine.server.tenant.TenantFunction;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Time.currentTime;
+import static io.spine.server.event.given.EventStoreTestEnv.taskAdded;
+import static io.spine.testing.core.given.GivenTenantId.generate;
+
+@DisplayName("FlowControlledStream should")
+class FlowControlledStreamTest {
+
+    @Test
+    @DisplayName("read the events in the context of the tenant of the request")
+    void readUnderTenant() {
+        TenantId tenant = generate();
+        TenantRecordingIterator events = new TenantRecordingIterator(taskAdded(currentTime()));
+        ServerStreamObserver observer = new ServerStreamObserver();
+        TenantAwareRunner.with(tenant)
+                         .run(() -> FlowControlledStream.send(events, observer, true, () -> {}));
+
+        observer.becomeReady();
+
+        assertThat(observer.isCompleted()).isTrue();
+        assertThat(events.tenants()).isNotEmpty();
+        assertThat(events.tenants()).containsExactly(tenant);
+    }
+
+    @Test
+    @DisplayName("pass the error of reading the events to the observer")
+    void passError() {
+        IllegalStateException error = new IllegalStateException("Storage is not available.");
+        Iterator<Event> events = new AbstractIterator<Event>() {
+            @Override
+            protected @Nullable Event computeNext() {
+                throw error;
+            }
+        };
+        ServerStreamObserver observer = ServerStreamObserver.acceptingErrors();
+        List<Boolean> completions = new ArrayList<>();
+        FlowControlledStream.send(events, observer, false, () -> completions.add(true));
+
+        observer.becomeReady();
+        observer.becomeReady();
+
+        assertThat(observer.errors()).containsExactly(error);
+        assertThat(observer.isCompleted()).isFalse();
+        assertThat(completions).isEmpty();
+    }
+
+    /**
+     * Remembers the tenant which is current each time the next event is read.
+     */
+    private static final class TenantRecordingIterator extends AbstractIterator<Event> {
+
+        private final Iterator<Event> events;
+        private final List<TenantId> tenants = new ArrayList<>();
+
+        private TenantRecordingIterator(Event... events) {
+            this.events = ImmutableList.copyOf(events)
+                                       .iterator();
+        }
+
+        @Override
+        protected @Nullable Event computeNext() {
+            TenantFunction<TenantId> current = new TenantFunction<TenantId>(true) {
+                @Override
+                public TenantId apply(TenantId tenantId) {
+                    return tenantId;
+                }
+            };
+            tenants.add(current.execute());
+            return events.hasNext() ? events.next() : endOfData();
+        }
+
+        private List<TenantId> tenants() {
+            return tenants;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.event.store;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import com.google.protobuf.Timestamp;
+import io.spine.core.Event;
+import io.spine.grpc.MemoizingObserver;
+import io.spine.server.BoundedContext;
+import io.spine.server.event.EventFilter;
+import io.spine.server.event.EventStore;
+import io.spine.server.event.EventStreamQuery;
+import io.spine.test.event.TaskAdded;
+import io.spine.type.TypeName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.protobuf.util.Timestamps.add;
+import static com.google.protobuf.util.Timestamps.subtract;
+import static io.spine.base.Identifier.pack;
+import static io.spine.base.Time.currentTime;
+import static io.spine.grpc.StreamObservers.memoizingObserver;
+import static io.spine.protobuf.Durations2.seconds;
+import static io.spine.server.event.EventComparator.chronological;
+import static io.spine.server.event.given.EventStoreTestEnv.projectCreated;
+import static io.spine.server.event.given.EventStoreTestEnv.taskAdded;
+import static io.spine.server.event.given.EventStoreTestEnv.withProducer;
+
+/**
+ * Tests of {@link InMemoryEventStore}.
+ */
+@DisplayName("`InMemoryEventStore` should")
+class InMemoryEventStoreTest extends EventStoreTest {
+
+    @Override
+    protected EventStore newStore(BoundedContext context) {
+        InMemoryEventStore store = new InMemoryEventStore(context.isMultitenant());
+        store.registerWith(context);
+        return store;
+    }
+
+    @Test
+    @DisplayName("read events of the requested types within the time bounds in chronological order")
+    void readByTypeAndTime() {
+        Timestamp present = currentTime();
+        Timestamp past = subtract(present, seconds(10));
+        Timestamp future = add(present, seconds(10));
+        Event taskInPast = taskAdded(past);
+        Event taskInPresent = taskAdded(present);
+        Event anotherTaskInPresent = taskAdded(present);
+        Event projectInPresent = projectCreated(present);
+        Event taskInFuture = taskAdded(future);
+        eventStore().appendAll(ImmutableList.of(taskInFuture, taskInPresent, projectInPresent,
+                                                taskInPast, anotherTaskInPresent));
+
+        EventStreamQuery query = EventStreamQuery
+                .newBuilder()
+                .setAfter(past)
+                .setBefore(future)
+                .addFilter(typeFilter())
+                .build();
+        List<Event> events = read(query);
+
+        assertThat(events).containsExactly(taskInPresent, anotherTaskInPresent);
+        assertThat(events).isInStrictOrder(chronological());
+    }
+
+    @Test
+    @DisplayName("read events of the requested producers")
+    void readByProducer() {
+        Timestamp now = currentTime();
+        Any producer = pack("producer");
+        Event produced = withProducer(taskAdded(now), producer);
+        Event other = withProducer(taskAdded(now), pack("other"));
+        eventStore().append(produced);
+        eventStore().append(other);
+
+        EventFilter filter = EventFilter
+                .newBuilder()
+                .addAggregateId(producer)
+                .build();
+        EventStreamQuery query = EventStreamQuery
+                .newBuilder()
+                .addFilter(filter)
+                .build();
+
+        assertThat(read(query)).containsExactly(produced);
+    }
+
+    @Test
+    @DisplayName("read each event once if it matches several filters")
+    void readOnce() {
+        Event task = taskAdded(currentTime());
+        eventStore().append(task);
+        eventStore().append(task);
+
+        EventStreamQuery query = EventStreamQuery
+                .newBuilder()
+                .addFilter(typeFilter())
+                .addFilter(typeFilter())
+                .build();
+
+        assertThat(read(query)).containsExactly(task);
+    }
+
+    private List<Event> read(EventStreamQuery query) {
+        MemoizingObserver<Event> observer = memoizingObserver();
+        eventStore().read(query, observer);
+        assertThat(observer.isCompleted()).isTrue();
+        return observer.responses();
+    }
+
+    private static EventFilter typeFilter() {
+        return EventFilter
+                .newBuilder()
+                .setEventType(TypeName.of(TaskAdded.class)
+                                      .value())
+                .build();
+    }
+}
@@ -20,11 +20,21 @@
 
 package io.spine.server.event.store;
 
+import io.spine.base.FieldFilter;
+import io.spine.core.Event;
 import io.spine.server.event.EventFilter;
+import io.spine.test.event.ProjectCreated;
+import io.spine.test.event.TaskAdded;
+import io.spine.type.TypeName;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static io.spine.base.Time.currentTime;
+import static io.spine.server.event.given.EventStoreTestEnv.projectCreated;
+import static io.spine.server.event.given.EventStoreTestEnv.taskAdded;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("MatchFilter should")
 class MatchFilterTest {
@@ -35,4 +45,34 @@ class MatchFilterTest {
         MatchFilter filter = new MatchFilter(EventFilter.getDefaultInstance());
         assertFalse(filter.test(null));
     }
+
+    @Test
+    @DisplayName("match events by type")
+    void matchByType() {
+        EventFilter taskAddedType = EventFilter
+                .newBuilder()
+                .setEventType(TypeName.of(TaskAdded.class)
+                                      .value())
+                .build();
+        MatchFilter filter = new MatchFilter(taskAddedType);
+        Event taskAdded = taskAdded(currentTime());
+        Event projectCreated = projectCreated(currentTime());
+        assertTrue(filter.test(taskAdded));
+        assertFalse(filter.test(projectCreated));
+    }
+
+    @Test
+    @DisplayName("reject a field filter without a field name when created")
+    void rejectEmptyFieldName() {
+        FieldFilter fieldFilter = FieldFilter
+                .newBuilder()
+                .setFieldPath(TypeName.of(ProjectCreated.class)
+                                      .value() + '.')
+                .build();
+        EventFilter eventFilter = EventFilter
+                .newBuilder()
+                .addEventFieldFilter(fieldFilter)
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> new MatchFilter(eventFilter));
+    }
 }
@@ -42,6 +42,7 @@ import io.spine.core.EventContext;
 import io.spine.core.MessageId;
 import io.spine.core.Origin;
 import io.spine.core.TenantId;
+import io.spine.core.Version;
 import io.spine.server.BoundedContext;
 import io.spine.server.BoundedContextBuilder;
 import io.spine.server.entity.EventFilter;
@@ -54,6 +55,7 @@ import io.spine.server.procman.given.delivery.GivenMessage;
 import io.spine.server.procman.given.repo.EventDiscardingProcManRepository;
 import io.spine.server.procman.given.repo.ProjectCompletion;
 import io.spine.server.procman.given.repo.RememberingSubscriber;
+import io.spine.server.procman.given.repo.RetainingProcessManagerRepository;
 import io.spine.server.procman.given.repo.SensoryDeprivedPmRepository;
 import io.spine.server.procman.given.repo.TestProcessManager;
 import io.spine.server.procman.given.repo.TestProcessManagerRepository;
@@ -772,6 +774,99 @@ class ProcessManagerRepositoryTest
         return Correspondence.from(ProcessManagerRepositoryTest::hasId, "has ID");
     }
 
+    @Nested
+    @DisplayName("retain process managers between batches")
+    class RetainBetweenBatches {
+
+        private RetainingProcessManagerRepository repository;
+        private BlackBoxContext context;
+
+        @BeforeEach
+        void createRetainingRepository() {
+            repository = new RetainingProcessManagerRepository();
+            context = BlackBoxContext.from(
+                    BoundedContextBuilder.assumingTests()
+                                         .add(repository)
+            );
+            inBatch(createProject());
+        }
+
+        @AfterEach
+        void closeContext() {
+            context.close();
+        }
+
+        @Test
+        @DisplayName("reusing the retained process manager without reloading it")
+        void reuse() {
+            inBatch(addTask());
+
+            // The process manager created in the first batch and the copies retained
+            // after each batch. A reload would add one more instance.
+            assertThat(repository.configured()).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("reloading the process manager if its stored version changed")
+        void reloadIfChanged() {
+            String changedName = "Changed by another node";
+            Project changed = Project
+                    .newBuilder()
+                    .setId(ID)
+                    .setName(changedName)
+                    .build();
+            Version later = Version
+                    .newBuilder()
+                    .setNumber(42)
+                    .setTimestamp(currentTime())
+                    .build();
+            repository.writeBypassingCache(changed, later);
+
+            inBatch(addTask());
+
+            ImmutableList<TestProcessManager> configured = repository.configured();
+            assertThat(configured).hasSize(4);
+            TestProcessManager reloaded = configured.get(2);
+            assertThat(reloaded.state()
+                               .getName()).isEqualTo(changedName);
+        }
+
+        @Test
+        @DisplayName("handing out a copy independent of the retained process manager")
+        void handOutCopy() {
+            ImmutableList<TestProcessManager> afterFirstBatch = repository.configured();
+            TestProcessManager first = afterFirstBatch.get(0);
+            TestProcessManager retained = afterFirstBatch.get(1);
+            int firstVersion = first.version()
+                                    .getNumber();
+
+            inBatch(addTask());
+
+            assertThat(retained).isNotSameInstanceAs(first);
+            assertThat(first.version()
+                            .getNumber()).isEqualTo(firstVersion);
+            assertThat(retained.version()
+                               .getNumber()).isGreaterThan(firstVersion);
+            TestProcessManager retainedAgain = repository.configured()
+                                                         .get(2);
+            assertThat(retainedAgain).isNotSameInstanceAs(retained);
+            assertThat(retainedAgain.version()).isEqualTo(retained.version());
+        }
+
+        /**
+         * Dispatches the command to the process manager within a batch.
+         */
+        private void inBatch(CommandMessage command) {
+            ProcessManagerRepository<ProjectId, TestProcessManager, Project> repository =
+                    this.repository;
+            repository.cache()
+                      .startCaching(ID);
+            context.receivesCommand(command);
+            repository.cache()
+                      .stopCaching(ID);
+        }
+    }
+
     private static boolean hasId(TestProcessManager projection, ProjectId id) {
         return projection.id().equals(id);
     }
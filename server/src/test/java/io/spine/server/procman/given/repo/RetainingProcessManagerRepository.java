@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.procman.given.repo;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.base.Identifier;
+import io.spine.core.Version;
+import io.spine.server.entity.EntityRecord;
+import io.spine.server.entity.RepositoryCache;
+import io.spine.server.entity.rejection.StandardRejection;
+import io.spine.server.procman.ProcessManagerRepository;
+import io.spine.server.route.EventRouting;
+import io.spine.test.procman.Project;
+import io.spine.test.procman.ProjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.protobuf.util.Durations.fromMinutes;
+import static io.spine.protobuf.AnyPacker.pack;
+import static io.spine.server.route.EventRoute.withId;
+
+/**
+ * The repository of {@link TestProcessManager}s which retains the process managers between
+ * the batches.
+ *
+ * <p>Remembers the instances it configures, i.e. both the instances loaded from the storage
+ * and their copies retained between the batches.
+ */
+public final class RetainingProcessManagerRepository
+        extends ProcessManagerRepository<ProjectId, TestProcessManager, Project> {
+
+    private final List<TestProcessManager> configured = new ArrayList<>();
+
+    public RetainingProcessManagerRepository() {
+        super();
+        setCacheRetention(RepositoryCache.Retention.of(100, fromMinutes(1)));
+    }
+
+    @Override
+    protected void setupEventRouting(EventRouting<ProjectId> routing) {
+        super.setupEventRouting(routing);
+        routing.route(StandardRejection.class,
+                      (event, context) -> withId((ProjectId) event.entityId()));
+    }
+
+    @Override
+    protected void configure(TestProcessManager processManager) {
+        super.configure(processManager);
+        configured.add(processManager);
+    }
+
+    /**
+     * Obtains the configured instances in the order of their creation.
+     */
+    public ImmutableList<TestProcessManager> configured() {
+        return ImmutableList.copyOf(configured);
+    }
+
+    /**
+     * Writes the process manager with the passed state and version directly to the storage,
+     * as if it was changed by another node.
+     */
+    public void writeBypassingCache(Project state, Version version) {
+        ProjectId id = state.getId();
+        EntityRecord record = EntityRecord
+                .newBuilder()
+                .setEntityId(Identifier.pack(id))
+                .setState(pack(state))
+                .setVersion(version)
+                .build();
+        recordStorage().write(id, record);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import io.spine.client.SubscriptionUpdate;
+import io.spine.testing.logging.MuteLogging;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.protobuf.util.Durations.fromMillis;
+import static io.spine.server.stand.given.SubscriptionUpdateTestEnv.update;
+import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+@DisplayName("CoalescingCallback should")
+class CoalescingCallbackTest {
+
+    private RejectingScheduler scheduler;
+    private List<SubscriptionUpdate> delivered;
+    private CoalescingCallback callback;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new RejectingScheduler();
+        delivered = synchronizedList(new ArrayList<>());
+        callback = new CoalescingCallback(delivered::add, fromMillis(10), scheduler);
+    }
+
+    @Test
+    @DisplayName("deliver only the latest update of an entity")
+    void coalesce() throws InterruptedException {
+        SubscriptionUpdate first = update("first", "1");
+        SubscriptionUpdate second = update("second", "2");
+        SubscriptionUpdate third = update("third", "1");
+        callback.accept(first);
+        callback.accept(second);
+        callback.accept(third);
+        assertThat(delivered).isEmpty();
+
+        awaitFlush();
+        assertThat(delivered).containsExactly(third, second).inOrder();
+    }
+
+    @Test
+    @DisplayName("deliver the updates which are not updates of a single entity")
+    void passNonEntityUpdates() throws InterruptedException {
+        SubscriptionUpdate first = SubscriptionUpdate.getDefaultInstance();
+        SubscriptionUpdate second = update("second", "2");
+        callback.accept(first);
+        callback.accept(second);
+
+        awaitFlush();
+        assertThat(delivered).containsExactly(first, second).inOrder();
+    }
+
+    @Test
+    @DisplayName("discard the pending updates when cancelled")
+    void discardOnCancel() throws InterruptedException {
+        callback.accept(update("first", "1"));
+        callback.cancel();
+        callback.accept(update("second", "2"));
+
+        awaitFlush();
+        assertThat(delivered).isEmpty();
+    }
+
+    @Test
+    @MuteLogging
+    @DisplayName("schedule the flush again after the scheduler rejects it")
+    void retryAfterRejection() throws InterruptedException {
+        SubscriptionUpdate first = update("first", "1");
+        SubscriptionUpdate second = update("second", "2");
+        scheduler.rejecting = true;
+        callback.accept(first);
+
+        scheduler.rejecting = false;
+        callback.accept(second);
+
+        awaitFlush();
+        assertThat(delivered).containsExactly(first, second).inOrder();
+    }
+
+    /**
+     * Waits until the already scheduled flush is complete.
+     */
+    private void awaitFlush() throws InterruptedException {
+        scheduler.shutdown();
+        assertThat(scheduler.awaitTermination(10, SECONDS)).isTrue();
+    }
+
+    /**
+     * A scheduler which rejects the tasks while told so.
+     */
+    private static final class RejectingScheduler extends ScheduledThreadPoolExecutor {
+
+        private volatile boolean rejecting = false;
+
+        private RejectingScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            if (rejecting) {
+                throw new RejectedExecutionException("The scheduler is shut down.");
+            }
+            return super.schedule(command, delay, unit);
+        }
+    }
+}
@@ -81,6 +81,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -89,6 +90,7 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.IntFunction;
 import java.util.stream.IntStream;
 
@@ -96,6 +98,8 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Sets.newHashSet;
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Uninterruptibles.sleepUninterruptibly;
+import static com.google.protobuf.util.Durations.fromMillis;
 import static io.spine.base.Identifier.newUuid;
 import static io.spine.client.QueryValidationError.INVALID_QUERY;
 import static io.spine.client.QueryValidationError.UNSUPPORTED_QUERY_TARGET;
@@ -114,6 +118,9 @@ import static io.spine.test.projection.Project.Status.STARTED;
 import static io.spine.test.projection.Project.Status.UNDEFINED;
 import static io.spine.testing.Tests.assertMatchesMask;
 import static java.util.Arrays.asList;
+import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -133,6 +140,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 class StandTest extends TenantAwareTest {
 
     private static final int TOTAL_PROJECTS_FOR_BATCH_READING = 10;
+    private static final long INTERVAL_MILLIS = 100;
 
     private boolean multitenant = false;
 
@@ -467,6 +475,79 @@ class StandTest extends TenantAwareTest {
         }
     }
 
+    @Nested
+    @DisplayName("with the update interval of the topic")
+    class WithUpdateInterval {
+
+        private final CustomerAggregateRepository repository = new CustomerAggregateRepository();
+        private final List<SubscriptionUpdate> updates = synchronizedList(new ArrayList<>());
+        private Stand stand;
+        private Customer customer;
+
+        @BeforeEach
+        void setUpStand() {
+            stand = createStand(repository);
+            customer = fillSampleCustomers(1)
+                    .iterator()
+                    .next();
+        }
+
+        @Test
+        @DisplayName("deliver only the latest update of an entity within the interval")
+        void coalesce() throws InterruptedException {
+            CountDownLatch delivered = new CountDownLatch(1);
+            subscribeAndActivate(stand, topicWithInterval(), update -> {
+                updates.add(update);
+                delivered.countDown();
+            });
+            Customer renamed = customer
+                    .toBuilder()
+                    .setName(PersonName.newBuilder()
+                                       .setGivenName("Renamed"))
+                    .build();
+            post(customer, 1);
+            post(renamed, 2);
+
+            assertTrue(delivered.await(10, SECONDS));
+            sleepUninterruptibly(3 * INTERVAL_MILLIS, MILLISECONDS);
+            assertThat(updates).hasSize(1);
+            Any state = updates.get(0)
+                               .getEntityUpdates()
+                               .getUpdate(0)
+                               .getState();
+            assertEquals(AnyPacker.pack(renamed), state);
+        }
+
+        @Test
+        @DisplayName("not deliver the pending updates after the subscription is cancelled")
+        void notDeliverAfterCancel() {
+            Subscription subscription =
+                    subscribeAndActivate(stand, topicWithInterval(), updates::add);
+            post(customer, 1);
+            stand.cancel(subscription, noOpObserver());
+
+            sleepUninterruptibly(3 * INTERVAL_MILLIS, MILLISECONDS);
+            assertThat(updates).isEmpty();
+        }
+
+        private Topic topicWithInterval() {
+            return requestFactory.topic()
+                                 .select(Customer.class)
+                                 .withUpdateInterval(fromMillis(INTERVAL_MILLIS))
+                                 .build();
+        }
+
+        private void post(Customer state, int version) {
+            CustomerId customerId = state.getId();
+            CustomerAggregate entity = aggregateOfClass(CustomerAggregate.class)
+                    .withId(customerId)
+                    .withState(state)
+                    .withVersion(version)
+                    .build();
+            stand.post(entity, repository.lifecycleOf(customerId));
+        }
+    }
+
     @Test
     @DisplayName("trigger subscription callbacks matching by ID")
     void triggerSubscriptionsMatchingById() {
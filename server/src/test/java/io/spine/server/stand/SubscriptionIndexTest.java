@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.protobuf.Any;
+import io.spine.base.Identifier;
+import io.spine.client.Subscription;
+import io.spine.client.Subscriptions;
+import io.spine.client.Targets;
+import io.spine.system.server.event.EntityStateChanged;
+import io.spine.test.aggregate.ProjectId;
+import io.spine.test.event.ProjectCreated;
+import io.spine.type.TypeUrl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.stand.given.SubscriptionRecordTestEnv.OTHER_TYPE;
+import static io.spine.server.stand.given.SubscriptionRecordTestEnv.TYPE;
+import static io.spine.server.stand.given.SubscriptionRecordTestEnv.projectId;
+import static io.spine.server.stand.given.SubscriptionRecordTestEnv.subscription;
+
+@DisplayName("SubscriptionIndex should")
+class SubscriptionIndexTest {
+
+    private static final ProjectId TARGET_ID = projectId("target-ID");
+    private static final ProjectId OTHER_ID = projectId("other-ID");
+
+    @Test
+    @DisplayName("find entity subscriptions matching all IDs")
+    void findAnyId() {
+        SubscriptionRecord allProjects = record(subscription(), "all");
+        SubscriptionIndex index = SubscriptionIndex.empty()
+                                                   .with(allProjects);
+
+        assertThat(index.byEntity(TYPE.value(), pack(TARGET_ID)))
+                .containsExactly(allProjects);
+        assertThat(index.byEntity(OTHER_TYPE.value(), pack(TARGET_ID)))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("find entity subscriptions by the filtered ID")
+    void findById() {
+        SubscriptionRecord allProjects = record(subscription(), "all");
+        SubscriptionRecord targetProject = record(subscription(TARGET_ID), "target");
+        SubscriptionIndex index = SubscriptionIndex.empty()
+                                                   .with(allProjects)
+                                                   .with(targetProject);
+
+        assertThat(index.byEntity(TYPE.value(), pack(TARGET_ID)))
+                .containsExactly(allProjects, targetProject);
+        assertThat(index.byEntity(TYPE.value(), pack(OTHER_ID)))
+                .containsExactly(allProjects);
+    }
+
+    @Test
+    @DisplayName("group records by type")
+    void byType() {
+        SubscriptionRecord record = record(subscription(), "all");
+        SubscriptionIndex index = SubscriptionIndex.empty()
+                                                   .with(record);
+        TypeUrl stateChanged = TypeUrl.of(EntityStateChanged.class);
+
+        assertThat(index.hasType(stateChanged)).isTrue();
+        assertThat(index.byType(stateChanged)).containsExactly(record);
+        assertThat(index.hasType(TYPE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("find event subscriptions by the event type")
+    void byEventType() {
+        SubscriptionRecord allProjects = record(subscription(), "all");
+        SubscriptionRecord projectCreated =
+                record(subscription(Targets.allOf(ProjectCreated.class)), "created");
+        SubscriptionIndex index = SubscriptionIndex.empty()
+                                                   .with(allProjects)
+                                                   .with(projectCreated);
+        TypeUrl stateChanged = TypeUrl.of(EntityStateChanged.class);
+
+        assertThat(index.byEventType(TypeUrl.of(ProjectCreated.class)))
+                .containsExactly(projectCreated);
+        assertThat(index.byEventType(stateChanged)).isEmpty();
+        assertThat(index.byType(stateChanged)).containsExactly(allProjects);
+    }
+
+    @Test
+    @DisplayName("not change when a record is removed from a derived index")
+    void copyOnWrite() {
+        SubscriptionRecord targetProject = record(subscription(TARGET_ID), "target");
+        SubscriptionIndex index = SubscriptionIndex.empty()
+                                                   .with(targetProject);
+        SubscriptionIndex removed = index.without(targetProject);
+
+        assertThat(removed.byEntity(TYPE.value(), pack(TARGET_ID)))
+                .isEmpty();
+        assertThat(index.byEntity(TYPE.value(), pack(TARGET_ID)))
+                .containsExactly(targetProject);
+    }
+
+    private static SubscriptionRecord record(Subscription subscription, String id) {
+        Subscription withId = subscription
+                .toBuilder()
+                .setId(Subscriptions.newId(id))
+                .build();
+        return SubscriptionRecord.of(withId);
+    }
+
+    private static Any pack(ProjectId id) {
+        return Identifier.pack(id);
+    }
+}
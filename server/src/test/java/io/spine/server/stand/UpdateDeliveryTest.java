@@ -0,0 +1,191 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import io.spine.client.Subscription;
+import io.spine.client.SubscriptionUpdate;
+import io.spine.server.stand.UpdateDelivery.Overflow;
+import io.spine.testing.logging.MuteLogging;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.stand.given.SubscriptionUpdateTestEnv.update;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("UpdateDelivery should")
+class UpdateDeliveryTest {
+
+    private static final int CAPACITY = 2;
+
+    private List<Runnable> tasks;
+    private List<SubscriptionUpdate> delivered;
+    private int cancellations;
+    private boolean rejecting;
+
+    @BeforeEach
+    void setUp() {
+        tasks = new ArrayList<>();
+        delivered = new ArrayList<>();
+        cancellations = 0;
+        rejecting = false;
+    }
+
+    @Test
+    @DisplayName("not pass updates on the posting thread")
+    void deliverAsync() {
+        SubscriptionCallback callback = queue(Overflow.DROP_OLDEST);
+        SubscriptionUpdate first = update("first", "1");
+        SubscriptionUpdate second = update("second", "2");
+        callback.accept(first);
+        callback.accept(second);
+
+        assertThat(delivered).isEmpty();
+        assertThat(tasks).hasSize(1);
+        runTasks();
+        assertThat(delivered).containsExactly(first, second).inOrder();
+    }
+
+    @Test
+    @DisplayName("drop the oldest update on overflow")
+    void dropOldest() {
+        SubscriptionCallback callback = queue(Overflow.DROP_OLDEST);
+        SubscriptionUpdate first = update("first", "1");
+        SubscriptionUpdate second = update("second", "2");
+        SubscriptionUpdate third = update("third", "3");
+        callback.accept(first);
+        callback.accept(second);
+        callback.accept(third);
+
+        runTasks();
+        assertThat(delivered).containsExactly(second, third).inOrder();
+    }
+
+    @Test
+    @DisplayName("drop the older updates of the same entity on overflow")
+    void coalesce() {
+        SubscriptionCallback callback = queue(Overflow.COALESCE_BY_ENTITY);
+        SubscriptionUpdate first = update("first", "1");
+        SubscriptionUpdate second = update("second", "2");
+        SubscriptionUpdate third = update("third", "2");
+        callback.accept(first);
+        callback.accept(second);
+        callback.accept(third);
+
+        runTasks();
+        assertThat(delivered).containsExactly(first, third).inOrder();
+    }
+
+    @Test
+    @DisplayName("cancel the subscription on overflow")
+    void cancel() {
+        SubscriptionCallback callback = queue(Overflow.CANCEL);
+        callback.accept(update("first", "1"));
+        callback.accept(update("second", "2"));
+        callback.accept(update("third", "3"));
+        callback.accept(update("fourth", "4"));
+
+        runTasks();
+        assertThat(delivered).isEmpty();
+        assertThat(cancellations).isEqualTo(1);
+    }
+
+    @Test
+    @MuteLogging
+    @DisplayName("deliver the queued updates once the executor accepts the task")
+    void retryAfterRejection() {
+        SubscriptionCallback callback = queue(Overflow.DROP_OLDEST);
+        SubscriptionUpdate first = update("first", "1");
+        SubscriptionUpdate second = update("second", "2");
+        rejecting = true;
+        callback.accept(first);
+        assertThat(tasks).isEmpty();
+
+        rejecting = false;
+        callback.accept(second);
+        runTasks();
+        assertThat(delivered).containsExactly(first, second).inOrder();
+    }
+
+    @Test
+    @MuteLogging
+    @DisplayName("cancel the subscription if the executor rejects the task after overflow")
+    void cancelAfterRejection() {
+        SubscriptionCallback callback = queue(Overflow.CANCEL);
+        rejecting = true;
+        callback.accept(update("first", "1"));
+        callback.accept(update("second", "2"));
+        assertThat(cancellations).isEqualTo(0);
+
+        callback.accept(update("third", "3"));
+        callback.accept(update("fourth", "4"));
+        assertThat(tasks).isEmpty();
+        assertThat(delivered).isEmpty();
+        assertThat(cancellations).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("require an executor")
+    void requireExecutor() {
+        assertThrows(IllegalStateException.class,
+                     () -> UpdateDelivery.newBuilder()
+                                         .build());
+    }
+
+    @Test
+    @DisplayName("reject non-positive capacity")
+    void rejectCapacity() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> UpdateDelivery.newBuilder()
+                                         .setCapacity(0));
+    }
+
+    private SubscriptionCallback queue(Overflow overflow) {
+        UpdateDelivery delivery = UpdateDelivery
+                .newBuilder()
+                .setExecutor(this::execute)
+                .setCapacity(CAPACITY)
+                .setOverflow(overflow)
+                .build();
+        return delivery.queue(Subscription.getDefaultInstance(),
+                              delivered::add,
+                              () -> cancellations++);
+    }
+
+    private void execute(Runnable task) {
+        if (rejecting) {
+            throw new RejectedExecutionException("The executor is shut down.");
+        }
+        tasks.add(task);
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0)
+                 .run();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand.given;
+
+import com.google.protobuf.StringValue;
+import io.spine.base.Identifier;
+import io.spine.client.EntityStateUpdate;
+import io.spine.client.EntityUpdates;
+import io.spine.client.SubscriptionUpdate;
+
+import static io.spine.protobuf.AnyPacker.pack;
+
+public final class SubscriptionUpdateTestEnv {
+
+    /** Prevents instantiation of this utility class. */
+    private SubscriptionUpdateTestEnv() {
+    }
+
+    /**
+     * Creates an update of a single entity.
+     *
+     * @param state
+     *         the value of the new entity state
+     * @param entityId
+     *         the ID of the entity
+     */
+    public static SubscriptionUpdate update(String state, String entityId) {
+        EntityStateUpdate stateUpdate = EntityStateUpdate
+                .newBuilder()
+                .setId(Identifier.pack(entityId))
+                .setState(pack(StringValue.of(state)))
+                .build();
+        EntityUpdates updates = EntityUpdates
+                .newBuilder()
+                .addUpdate(stateUpdate)
+                .build();
+        return SubscriptionUpdate
+                .newBuilder()
+                .setEntityUpdates(updates)
+                .build();
+    }
+}
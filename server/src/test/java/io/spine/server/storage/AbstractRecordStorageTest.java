@@ -25,6 +25,7 @@ import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
 import io.spine.base.EntityState;
 import io.spine.client.ResponseFormat;
+import io.spine.core.Version;
 import io.spine.server.entity.EntityRecord;
 import io.spine.server.entity.LifecycleFlags;
 import io.spine.server.entity.storage.EntityRecordWithColumns;
@@ -309,6 +310,33 @@ public abstract class AbstractRecordStorageTest<I, S extends RecordStorage<I>>
                                                            .iterator(), secondRevision);
     }
 
+    @Test
+    @DisplayName("return the version of the record")
+    void readVersion() {
+        I id = newId();
+        Version version = GivenVersion.withNumber(42);
+        EntityRecord record = newStorageRecord(id)
+                .toBuilder()
+                .setVersion(version)
+                .build();
+        RecordStorage<I> storage = storage();
+        storage.write(id, record);
+
+        Optional<Version> optional = storage.readVersion(id);
+        assertTrue(optional.isPresent());
+        assertEquals(version, optional.get());
+    }
+
+    @Test
+    @DisplayName("return no version for missing record")
+    void noVersionForMissingRecord() {
+        I id = newId();
+        RecordStorage<I> storage = storage();
+
+        assertFalse(storage.readVersion(id)
+                           .isPresent());
+    }
+
     @Test
     @DisplayName("return lifecycle flags for missing record")
     void forMissingRecord() {
@@ -20,18 +20,39 @@
 
 package io.spine.server.storage.memory;
 
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
 import io.spine.base.EntityState;
+import io.spine.base.EventMessage;
+import io.spine.core.Event;
+import io.spine.core.Version;
 import io.spine.protobuf.ValidatingBuilder;
 import io.spine.server.aggregate.Aggregate;
+import io.spine.server.aggregate.AggregateEventRecord;
+import io.spine.server.aggregate.AggregateReadRequest;
 import io.spine.server.aggregate.AggregateStorage;
 import io.spine.server.aggregate.AggregateStorageTest;
+import io.spine.server.aggregate.Snapshot;
+import io.spine.server.aggregate.given.StorageRecords;
 import io.spine.server.entity.Entity;
 import io.spine.test.aggregate.ProjectId;
+import io.spine.test.aggregate.event.AggProjectCreated;
+import io.spine.testdata.Sample;
+import io.spine.testing.server.TestEventFactory;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Time.currentTime;
+import static io.spine.core.Versions.increment;
+import static io.spine.core.Versions.zero;
 
 @DisplayName("InMemoryAggregateStorage should")
 class InMemoryAggregateStorageTest extends AggregateStorageTest {
 
+    private final TestEventFactory eventFactory =
+            TestEventFactory.newInstance(InMemoryAggregateStorageTest.class);
+
     @Override
     protected AggregateStorage<ProjectId> newStorage(Class<? extends Entity<?, ?>> cls) {
         return InMemoryAggregateStorage.newInstance();
@@ -45,4 +66,49 @@ class InMemoryAggregateStorageTest extends AggregateStorageTest {
                                       ? extends ValidatingBuilder<?>>> aggregateClass) {
         return InMemoryAggregateStorage.newInstance();
     }
+
+    @Test
+    @DisplayName("read the history only since the latest snapshot")
+    void readSinceLatestSnapshot() {
+        InMemoryAggregateStorage<ProjectId> storage = InMemoryAggregateStorage.newInstance();
+        ProjectId id = newId();
+        Version first = increment(zero());
+        Version second = increment(first);
+        Version third = increment(second);
+
+        storage.writeRecord(id, eventRecord(first));
+        storage.writeRecord(id, eventRecord(second));
+        AggregateEventRecord snapshot = snapshotRecord(second);
+        storage.writeRecord(id, snapshot);
+        AggregateEventRecord latestEvent = eventRecord(third);
+        storage.writeRecord(id, latestEvent);
+
+        AggregateReadRequest<ProjectId> request = newReadRequest(id);
+        ImmutableList<AggregateEventRecord> records =
+                ImmutableList.copyOf(storage.historySinceLatestSnapshot(request));
+        assertThat(records)
+                .containsExactly(latestEvent, snapshot)
+                .inOrder();
+    }
+
+    private AggregateEventRecord eventRecord(Version version) {
+        Timestamp now = currentTime();
+        EventMessage message = Sample.messageOfType(AggProjectCreated.class);
+        Event event = eventFactory.createEvent(message, version, now);
+        return StorageRecords.create(now, event);
+    }
+
+    private static AggregateEventRecord snapshotRecord(Version version) {
+        Timestamp now = currentTime();
+        Snapshot snapshot = Snapshot
+                .newBuilder()
+                .setVersion(version)
+                .setTimestamp(now)
+                .build();
+        return AggregateEventRecord
+                .newBuilder()
+                .setTimestamp(now)
+                .setSnapshot(snapshot)
+                .build();
+    }
 }
@@ -20,9 +20,17 @@
 
 package io.spine.server.storage.memory;
 
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.FieldMask;
 import io.spine.base.EntityState;
+import io.spine.client.ResponseFormat;
+import io.spine.client.TargetFilters;
 import io.spine.server.entity.Entity;
+import io.spine.server.entity.EntityRecord;
+import io.spine.server.entity.storage.EntityQuery;
+import io.spine.server.storage.RecordReadRequest;
 import io.spine.server.storage.RecordStorageTest;
+import io.spine.server.storage.given.RecordStorageTestEnv.TestCounterEntity;
 import io.spine.test.storage.Project;
 import io.spine.test.storage.ProjectId;
 import io.spine.test.storage.Task;
@@ -30,9 +38,25 @@ import io.spine.type.TypeUrl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.client.Filters.all;
+import static io.spine.client.Filters.gt;
 import static io.spine.core.BoundedContextNames.newName;
+import static io.spine.protobuf.AnyPacker.unpack;
+import static io.spine.server.entity.storage.EntityRecordWithColumns.create;
+import static io.spine.server.storage.given.RecordStorageTestEnv.buildStorageRecord;
+import static io.spine.server.storage.given.RecordStorageTestEnv.newEntity;
+import static io.spine.server.storage.given.RecordStorageTestEnv.newEntityQuery;
+import static io.spine.test.storage.Project.Status.CANCELLED;
+import static io.spine.test.storage.Project.Status.DONE;
+import static io.spine.test.storage.Project.Status.STARTED;
 import static java.lang.String.format;
 import static java.lang.System.nanoTime;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @DisplayName("InMemoryRecordStorage should")
@@ -67,4 +91,79 @@ public class InMemoryRecordStorageTest
         StorageSpec spec = storage().spec();
         assertEquals(ProjectId.class, spec.idClass());
     }
+
+    @Test
+    @DisplayName("find records by a column comparison after the records are updated or deleted")
+    void queryIndexedColumn() {
+        InMemoryRecordStorage<ProjectId> storage = storage();
+        ProjectId created = writeWithStatus(newId(), Project.Status.CREATED);
+        ProjectId done = writeWithStatus(newId(), DONE);
+        ProjectId cancelled = writeWithStatus(newId(), CANCELLED);
+
+        TargetFilters filters = TargetFilters
+                .newBuilder()
+                .addFilter(all(gt("project_status_value", STARTED.getNumber())))
+                .build();
+        EntityQuery<ProjectId> query = newEntityQuery(filters, storage);
+        assertThat(idsOf(storage.readAll(query))).containsExactly(done, cancelled);
+
+        storage.delete(done);
+        writeWithStatus(created, DONE);
+        writeWithStatus(cancelled, STARTED);
+        assertThat(idsOf(storage.readAll(query))).containsExactly(created);
+    }
+
+    @Test
+    @DisplayName("read the whole state with the field mask listing all the state fields")
+    void readWithFullMask() {
+        InMemoryRecordStorage<ProjectId> storage = storage();
+        ProjectId id = writeWithStatus(newId(), DONE);
+        FieldMask allFields = FieldMask
+                .newBuilder()
+                .addAllPaths(Project.getDescriptor()
+                                    .getFields()
+                                    .stream()
+                                    .map(FieldDescriptor::getName)
+                                    .collect(toList()))
+                .build();
+        FieldMask statusOnly = FieldMask
+                .newBuilder()
+                .addPaths("status")
+                .build();
+
+        EntityRecord stored = storage.read(new RecordReadRequest<>(id))
+                                     .orElseThrow(IllegalStateException::new);
+
+        Iterator<EntityRecord> full = storage.readAll(formatWith(allFields));
+        Iterator<EntityRecord> masked = storage.readAll(formatWith(statusOnly));
+
+        assertThat(full.next()).isEqualTo(stored);
+        Project maskedState = unpack(masked.next()
+                                           .getState(), Project.class);
+        assertThat(maskedState.getStatus()).isEqualTo(DONE);
+        assertThat(maskedState.hasId()).isFalse();
+    }
+
+    private static ResponseFormat formatWith(FieldMask mask) {
+        return ResponseFormat
+                .newBuilder()
+                .setFieldMask(mask)
+                .build();
+    }
+
+    private ProjectId writeWithStatus(ProjectId id, Project.Status status) {
+        InMemoryRecordStorage<ProjectId> storage = storage();
+        TestCounterEntity entity = newEntity(id);
+        entity.assignStatus(status);
+        EntityRecord record = buildStorageRecord(id, entity.state());
+        storage.write(id, create(record, entity, storage));
+        return id;
+    }
+
+    private static List<ProjectId> idsOf(Iterator<EntityRecord> records) {
+        List<ProjectId> result = new ArrayList<>();
+        records.forEachRemaining(record -> result.add(unpack(record.getState(), Project.class)
+                                                              .getId()));
+        return result;
+    }
 }
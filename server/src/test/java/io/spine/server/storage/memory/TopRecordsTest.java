@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.memory;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.spine.client.OrderBy;
+import io.spine.server.entity.EntityRecord;
+import io.spine.server.entity.storage.ColumnName;
+import io.spine.server.entity.storage.EntityRecordWithColumns;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.client.OrderBy.Direction.ASCENDING;
+import static io.spine.client.OrderBy.Direction.DESCENDING;
+import static java.util.stream.Collectors.toList;
+
+@DisplayName("TopRecords should")
+class TopRecordsTest {
+
+    private static final String RANK = "rank";
+    private static final String NAME = "name";
+
+    @Test
+    @DisplayName("select all records in order if there is no limit")
+    void selectAll() {
+        List<EntityRecordWithColumns> records = records(3, 1, 2);
+        List<EntityRecordWithColumns> selected = TopRecords.of(orderBy(ASCENDING), 0)
+                                                           .select(records);
+        assertThat(ranksOf(selected)).containsExactly(1, 2, 3)
+                                     .inOrder();
+    }
+
+    @Test
+    @DisplayName("select the first records in order up to the limit")
+    void selectTop() {
+        List<EntityRecordWithColumns> records = records(5, 3, 9, 1, 7, 4);
+        List<EntityRecordWithColumns> descending = TopRecords.of(orderBy(DESCENDING), 2)
+                                                             .select(records);
+        assertThat(ranksOf(descending)).containsExactly(9, 7)
+                                       .inOrder();
+
+        List<EntityRecordWithColumns> ascending = TopRecords.of(orderBy(ASCENDING), 3)
+                                                            .select(records);
+        assertThat(ranksOf(ascending)).containsExactly(1, 3, 4)
+                                      .inOrder();
+    }
+
+    @Test
+    @DisplayName("keep the passed order of the records with equal values")
+    void keepOrderOfEqual() {
+        List<EntityRecordWithColumns> records = ImmutableList.of(
+                record(1, "a"), record(1, "b"), record(0, "c"), record(1, "d")
+        );
+        List<EntityRecordWithColumns> ascending = TopRecords.of(orderBy(ASCENDING), 3)
+                                                            .select(records);
+        assertThat(namesOf(ascending)).containsExactly("c", "a", "b")
+                                      .inOrder();
+
+        List<EntityRecordWithColumns> descending = TopRecords.of(orderBy(DESCENDING), 2)
+                                                             .select(records);
+        assertThat(namesOf(descending)).containsExactly("a", "b")
+                                       .inOrder();
+    }
+
+    private static OrderBy orderBy(OrderBy.Direction direction) {
+        return OrderBy
+                .newBuilder()
+                .setColumn(RANK)
+                .setDirection(direction)
+                .build();
+    }
+
+    private static List<EntityRecordWithColumns> records(int... ranks) {
+        ImmutableList.Builder<EntityRecordWithColumns> result = ImmutableList.builder();
+        for (int rank : ranks) {
+            result.add(record(rank, String.valueOf(rank)));
+        }
+        return result.build();
+    }
+
+    private static EntityRecordWithColumns record(int rank, String name) {
+        ImmutableMap<ColumnName, Object> columns = ImmutableMap.of(
+                ColumnName.of(RANK), rank,
+                ColumnName.of(NAME), name
+        );
+        return EntityRecordWithColumns.of(EntityRecord.getDefaultInstance(), columns);
+    }
+
+    private static List<Object> ranksOf(List<EntityRecordWithColumns> records) {
+        return valuesOf(records, RANK);
+    }
+
+    private static List<Object> namesOf(List<EntityRecordWithColumns> records) {
+        return valuesOf(records, NAME);
+    }
+
+    private static List<Object> valuesOf(List<EntityRecordWithColumns> records, String column) {
+        ColumnName name = ColumnName.of(column);
+        return records.stream()
+                      .map(record -> record.columnValue(name))
+                      .collect(toList());
+    }
+}